@@ -0,0 +1,180 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load driver for the task API. Each of {@code concurrency} workers sends one request at a time
+ * for {@code warmup + duration} seconds; only requests started after the warm-up are measured.
+ * <p>
+ * Runs as a single-file program: {@code java LoadDriver.java <baseUrl> <seed|list|get|update|create> [concurrency]
+ * [durationSeconds] [warmupSeconds]}. Prints one tab-separated result line per run.
+ */
+public class LoadDriver {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: LoadDriver <baseUrl> <seed|list|get|update|create> [concurrency] [durationSeconds] [warmupSeconds]");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        String scenario = args[1];
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int duration = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        int warmup = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        if (scenario.equals("seed")) {
+            seed(client, baseUrl, concurrency);
+            return;
+        }
+
+        long[] ids = loadIds(client, baseUrl, 1000);
+        if (ids.length == 0) {
+            throw new IllegalStateException("No tasks found; run the seed scenario first");
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmup).toNanos();
+        long end = measureFrom + Duration.ofSeconds(duration).toNanos();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int w = 0; w < concurrency; w++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            int worker = w;
+            Thread thread = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (true) {
+                        long sent = System.nanoTime();
+                        if (sent >= end) {
+                            break;
+                        }
+                        HttpRequest request = request(scenario, baseUrl, ids[random.nextInt(ids.length)], random);
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        if (sent >= measureFrom) {
+                            recorder.record(System.nanoTime() - sent);
+                            if (status < 200 || status >= 300) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                } finally {
+                    latencies[worker] = recorder.toArray();
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        done.await();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("%s\t%d\t%d\t%d\t%.0f\t%.1f\t%.1f\t%.1f\t%.1f%n",
+                scenario, concurrency, all.length, errors.get(), all.length / (double) duration,
+                percentile(all, 50), percentile(all, 90), percentile(all, 99), percentile(all, 100));
+    }
+
+    private static HttpRequest request(String scenario, String baseUrl, long id, ThreadLocalRandom random) {
+        return switch (scenario) {
+            case "list" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks/page?limit=50")).GET().build();
+            case "get" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks/" + id)).GET().build();
+            case "update" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks/" + id + "/priority?priority="
+                    + PRIORITIES[random.nextInt(PRIORITIES.length)])).PUT(HttpRequest.BodyPublishers.noBody()).build();
+            case "create" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load task " + random.nextInt(1_000_000)
+                            + "\",\"priority\":\"" + PRIORITIES[random.nextInt(PRIORITIES.length)] + "\"}"))
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+
+    /** Creates {@code count} tasks through the bulk endpoint. */
+    private static void seed(HttpClient client, String baseUrl, int count) throws Exception {
+        for (int created = 0; created < count; created += 1000) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = created; i < Math.min(count, created + 1000); i++) {
+                if (i > created) {
+                    body.append(',');
+                }
+                body.append("{\"title\":\"Benchmark task ").append(i)
+                        .append("\",\"description\":\"Seeded by LoadDriver\",\"priority\":\"")
+                        .append(PRIORITIES[i % PRIORITIES.length]).append("\"}");
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/tasks/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed: " + response.statusCode() + " " + response.body());
+            }
+        }
+        System.err.println("Seeded " + count + " tasks");
+    }
+
+    /** Collects up to {@code max} task ids by walking the keyset pages. */
+    private static long[] loadIds(HttpClient client, String baseUrl, int max) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        Pattern nextCursor = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+        do {
+            String url = baseUrl + "/api/v1/tasks/page?limit=200" + (cursor == null ? "" : "&cursor=" + cursor);
+            String body = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            Matcher id = ID.matcher(body);
+            while (id.find() && ids.size() < max) {
+                ids.add(Long.parseLong(id.group(1)));
+            }
+            Matcher next = nextCursor.matcher(body);
+            cursor = next.find() ? next.group(1) : null;
+        } while (cursor != null && ids.size() < max);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
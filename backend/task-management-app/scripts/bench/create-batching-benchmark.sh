@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Compares one transaction per POST /api/v1/tasks against group commit (task.create-batching) at rising concurrency.
+#
+# Starts the packaged application once per mode against the database configured by the usual spring.datasource.*
+# settings (extra arguments are passed on to the application), seeds it when empty, and drives the create endpoint
+# with scripts/bench/LoadDriver.java. The gain comes from fewer commits, so measure against MySQL with its default
+# durable settings (innodb_flush_log_at_trx_commit=1); an in-memory database has no log to flush.
+#
+#   CONCURRENCY  space-separated client counts (default "16 64 256")
+#   DURATION     measured seconds per run (default 30)
+#   WARMUP       unmeasured seconds per run (default 10)
+#   POOL_SIZE    Hikari pool size, identical for both modes (default 20)
+#   BATCH_SIZE   task.create-batching.max-batch-size (default 100)
+#   LINGER       task.create-batching.linger (default 2ms)
+#   PORT         application port (default 8080)
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+CONCURRENCY=${CONCURRENCY:-"16 64 256"}
+DURATION=${DURATION:-30}
+WARMUP=${WARMUP:-10}
+POOL_SIZE=${POOL_SIZE:-20}
+BATCH_SIZE=${BATCH_SIZE:-100}
+LINGER=${LINGER:-2ms}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+DRIVER=scripts/bench/LoadDriver.java
+
+./mvnw -q -B -DskipTests package
+JAR=$(ls target/task-management-app-*.jar | grep -v plain | head -n 1)
+
+wait_until_up() {
+  for _ in $(seq 1 120); do
+    if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "Application did not start, see $1" >&2
+  return 1
+}
+
+printf 'mode\tscenario\tconcurrency\trequests\terrors\treq/s\tp50 ms\tp90 ms\tp99 ms\tmax ms\n'
+for mode in single batched; do
+  log="target/create-batching-benchmark-${mode}.log"
+
+  # Admission control would cap concurrent creates (and so the batch size) and shed the rest; it is off for both.
+  java -jar "$JAR" \
+    --server.port="$PORT" \
+    --task.admission.enabled=false \
+    --task.create-batching.enabled="$([ "$mode" = batched ] && echo true || echo false)" \
+    --task.create-batching.max-batch-size="$BATCH_SIZE" \
+    --task.create-batching.linger="$LINGER" \
+    --spring.jpa.show-sql=false \
+    --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    --logging.level.root=WARN \
+    "$@" > "$log" 2>&1 &
+  app_pid=$!
+  trap 'kill $app_pid 2> /dev/null || true' EXIT
+  wait_until_up "$log"
+
+  # The driver needs existing ids to start, even though creates do not use them.
+  if ! curl -sf "${BASE_URL}/api/v1/tasks/page?limit=1" | grep -q '"id"'; then
+    java "$DRIVER" "$BASE_URL" seed 1000
+  fi
+
+  for clients in $CONCURRENCY; do
+    printf '%s\t' "$mode"
+    java "$DRIVER" "$BASE_URL" create "$clients" "$DURATION" "$WARMUP"
+  done
+  if [ "$mode" = batched ]; then
+    curl -sf "${BASE_URL}/actuator/metrics/task.create.batch.size" | sed 's/^/# batch size: /' >&2 || true
+    echo >&2
+  fi
+
+  kill "$app_pid"
+  wait "$app_pid" 2> /dev/null || true
+done
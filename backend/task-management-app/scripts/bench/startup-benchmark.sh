@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Measures the time from JVM launch to the first successful GET /api/v1/tasks, for the default configuration,
+# the prod profile, prod with AOT-generated bean definitions, and prod with AOT plus the CDS archive.
+#
+# Builds with the fast-startup profile and runs every mode from the same unpacked application in
+# target/fast-startup, against the database configured by the usual spring.datasource.* settings (extra arguments
+# are passed on to the application).
+#
+#   RUNS             launches per mode (default 5)
+#   PORT             application port (default 8080)
+#   EXTRA_CLASSPATH  jars to add to the application's class path, e.g. another JDBC driver
+#
+# Against an in-memory H2 database instead of MySQL:
+#   EXTRA_CLASSPATH=~/.m2/repository/com/h2database/h2/2.2.224/h2-2.2.224.jar scripts/bench/startup-benchmark.sh \
+#     '--spring.datasource.url=jdbc:h2:mem:tasks;MODE=MySQL' --spring.datasource.username=sa \
+#     --spring.jpa.properties.jakarta.persistence.database-product-name=H2
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}/api/v1/tasks"
+
+./mvnw -q -B -P fast-startup -DskipTests package
+APP_DIR=target/fast-startup
+JAR=$(cd "$APP_DIR" && ls task-management-app-*.jar | head -n 1)
+MAIN_CLASS=com.taskapp.task_management_app.TaskManagementAppApplication
+
+launch_args() {
+  local mode=$1
+  local jvm_args=()
+  local app_args=(--server.port="$PORT")
+  case "$mode" in
+    default) ;;
+    prod) app_args+=(--spring.profiles.active=prod) ;;
+    prod-aot) jvm_args+=(-Dspring.aot.enabled=true); app_args+=(--spring.profiles.active=prod) ;;
+    prod-aot-cds) jvm_args+=(-XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true)
+                  app_args+=(--spring.profiles.active=prod) ;;
+  esac
+  if [ -n "${EXTRA_CLASSPATH:-}" ]; then
+    echo "${jvm_args[*]} -cp $JAR:$EXTRA_CLASSPATH $MAIN_CLASS ${app_args[*]}"
+  else
+    echo "${jvm_args[*]} -jar $JAR ${app_args[*]}"
+  fi
+}
+
+# Prints the milliseconds from launch until the endpoint answered 200.
+time_to_first_response() {
+  local mode=$1
+  shift
+  local log="target/startup-benchmark-${mode}.log"
+  local start
+  start=$(date +%s%N)
+  # shellcheck disable=SC2046
+  (cd "$APP_DIR" && exec java $(launch_args "$mode") "$@") > "$log" 2>&1 &
+  local pid=$!
+  local elapsed=""
+  for _ in $(seq 1 1200); do
+    if curl -sf -o /dev/null "$URL"; then
+      elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+      break
+    fi
+    if ! kill -0 "$pid" 2> /dev/null; then
+      break
+    fi
+    sleep 0.05
+  done
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+  if [ -z "$elapsed" ]; then
+    echo "Application did not answer in mode ${mode}, see ${log}" >&2
+    return 1
+  fi
+  echo "$elapsed"
+}
+
+printf 'mode\truns\tmin ms\tmedian ms\tmax ms\n'
+for mode in default prod prod-aot prod-aot-cds; do
+  times=()
+  for _ in $(seq 1 "$RUNS"); do
+    times+=("$(time_to_first_response "$mode" "$@")")
+  done
+  sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+  printf '%s\t%d\t%d\t%d\t%d\n' "$mode" "$RUNS" "${sorted[0]}" "${sorted[$((RUNS / 2))]}" "${sorted[$((RUNS - 1))]}"
+done
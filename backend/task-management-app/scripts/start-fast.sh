@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+# Starts the fast-startup build (mvn -P fast-startup -DskipTests package) with the prod profile, the bean
+# definitions generated at build time and the class data sharing archive from the build's training run.
+# Extra arguments are passed on to the application, e.g. --spring.datasource.url=...
+#
+# The AOT build fixes the set of beans for the profiles it was built with (aot.profiles, default prod); activate
+# the same profiles here. JAVA_OPTS are added to the JVM options.
+set -euo pipefail
+
+cd "$(dirname "$0")/../target/fast-startup"
+JAR=$(ls task-management-app-*.jar | head -n 1)
+
+# shellcheck disable=SC2086
+exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true ${JAVA_OPTS:-} \
+  -jar "$JAR" --spring.profiles.active=prod "$@"
@@ -0,0 +1,36 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.TaskManagementAppApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application without a web server against its own in-memory H2 database, with the service-level
+ * cache off so service benchmarks measure the database path.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... properties) {
+        // DevTools would try to restart the application from the benchmark thread.
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(TaskManagementAppApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        "spring.cache.type=none",
+                        // DevTools shuts H2 down itself when the context closes, after the pool already has.
+                        "spring.autoconfigure.exclude="
+                                + "org.springframework.boot.devtools.autoconfigure.DevToolsDataSourceAutoConfiguration",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic task data for the benchmarks: a fixed seed, realistic text lengths and a spread of statuses,
+ * priorities and due dates around today, so the overdue/due-soon branches are all taken.
+ */
+final class BenchmarkTasks {
+    static final String[] WORDS = {
+            "release", "backend", "frontend", "review", "deploy", "invoice", "customer", "report", "migration",
+            "database", "meeting", "budget", "design", "testing", "security", "onboarding", "roadmap", "support",
+            "incident", "payment", "search", "export", "analytics", "mobile", "pipeline", "audit", "contract",
+            "feedback", "hiring", "training", "backup", "monitoring"};
+
+    private BenchmarkTasks() {
+    }
+
+    /** Unsaved tasks with ids, versions and timestamps filled in, as if loaded from the database. */
+    static List<Task> loaded(int count) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = fresh(random, i);
+            task.setId((long) i + 1);
+            task.setVersion((long) random.nextInt(5));
+            task.setCreatedAt(now.minusDays(random.nextInt(60)));
+            task.setUpdatedAt(now.minusHours(random.nextInt(48)));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /** New tasks as a client would submit them. */
+    static List<Task> fresh(int count, long seed) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(fresh(random, i));
+        }
+        return tasks;
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static Task fresh(Random random, int i) {
+        Task task = new Task();
+        task.setTitle(sentence(random, 4) + " #" + i);
+        task.setDescription(sentence(random, 20));
+        task.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+        task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+        task.setDueDate(random.nextInt(4) == 0 ? null : LocalDate.now().plusDays(random.nextInt(30) - 10));
+        return task;
+    }
+}
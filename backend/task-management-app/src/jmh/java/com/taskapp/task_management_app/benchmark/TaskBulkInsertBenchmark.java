@@ -0,0 +1,72 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importing a batch of tasks: one createTask call (and transaction) per task, as repeated POST /api/v1/tasks
+ * requests do, against a single createTasks call with batched inserts, as POST /api/v1/tasks/bulk does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBulkInsertBenchmark {
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Task> batch;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start("bulk-benchmark");
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        batch = BenchmarkTasks.fresh(batchSize, System.nanoTime());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> oneByOne() {
+        List<Task> saved = new ArrayList<>(batch.size());
+        for (Task task : batch) {
+            saved.add(taskService.createTask(task));
+        }
+        return saved;
+    }
+
+    @Benchmark
+    public List<Task> bulk() {
+        return taskService.createTasks(batch);
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskapp.task_management_app.dto.TaskResponseDTO;
+import com.taskapp.task_management_app.dto.mapper.TaskJsonSerializer;
+import com.taskapp.task_management_app.dto.mapper.TaskMapper;
+import com.taskapp.task_management_app.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of task list responses. {@code writeToStream} is what the message converter does with the response
+ * body; {@code writeValueAsBytes} adds the cost of buffering the whole document. {@code mapAndWrite} and
+ * {@code writeDirect} compare the per-request cost of the TaskResponseDTO path with TaskJsonSerializer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    /** Configured like the application's ObjectMapper; the converter leaves closing the response stream to the container. */
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    private final ObjectMapper directMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .serializers(new TaskJsonSerializer())
+            .build();
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final OutputStream discard = OutputStream.nullOutputStream();
+    private List<Task> entities;
+    private List<TaskResponseDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        entities = BenchmarkTasks.loaded(size);
+        tasks = taskMapper.toResponseDTOList(entities);
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        objectMapper.writeValue(discard, tasks);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public void mapAndWrite() throws IOException {
+        objectMapper.writeValue(discard, taskMapper.toResponseDTOList(entities));
+    }
+
+    @Benchmark
+    public void writeDirect() throws IOException {
+        directMapper.writeValue(discard, entities);
+    }
+}
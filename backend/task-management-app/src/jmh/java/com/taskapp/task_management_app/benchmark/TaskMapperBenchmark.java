@@ -0,0 +1,54 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.dto.TaskResponseDTO;
+import com.taskapp.task_management_app.dto.mapper.TaskMapper;
+import com.taskapp.task_management_app.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping, run for every task in every read response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private List<Task> tasks;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkTasks.loaded(size);
+        task = tasks.get(size / 2);
+    }
+
+    @Benchmark
+    public TaskResponseDTO toResponseDTO() {
+        return taskMapper.toResponseDTO(task);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> toResponseDTOList() {
+        return taskMapper.toResponseDTOList(tasks);
+    }
+}
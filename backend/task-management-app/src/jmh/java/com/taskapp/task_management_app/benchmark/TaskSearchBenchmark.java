@@ -0,0 +1,79 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.query.TaskSearchPage;
+import com.taskapp.task_management_app.repository.JpaTaskRepository;
+import com.taskapp.task_management_app.service.TaskSearchService;
+import com.taskapp.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of the ranked index search against the {@code LIKE '%kw%'} title query it replaces, as the table grows.
+ * The LIKE query returns every match unranked and only looks at titles, so it does strictly less work per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSearchBenchmark {
+
+    @Param({"1000", "20000"})
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService taskSearchService;
+    private JpaTaskRepository taskRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("search-benchmark-" + tasks);
+        TaskService taskService = context.getBean(TaskService.class);
+        for (int created = 0; created < tasks; created += 1000) {
+            taskService.createTasks(BenchmarkTasks.fresh(Math.min(1000, tasks - created), created));
+        }
+        taskSearchService = context.getBean(TaskSearchService.class);
+        taskRepository = context.getBean(JpaTaskRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskSearchPage indexSearch() {
+        return taskSearchService.search(randomWord(), 0, 20, false);
+    }
+
+    @Benchmark
+    public TaskSearchPage indexPrefixSearch() {
+        return taskSearchService.search(randomWord().substring(0, 3), 0, 20, false);
+    }
+
+    @Benchmark
+    public List<Task> likeQuery() {
+        return taskRepository.findByTitleContainingIgnoreCase(randomWord());
+    }
+
+    private static String randomWord() {
+        return BenchmarkTasks.WORDS[ThreadLocalRandom.current().nextInt(BenchmarkTasks.WORDS.length)];
+    }
+}
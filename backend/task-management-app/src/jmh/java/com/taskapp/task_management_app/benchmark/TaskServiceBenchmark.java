@@ -0,0 +1,85 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskServiceImpl end to end on an embedded H2 database: transactions, Hibernate, the after-commit listeners and
+ * JDBC, without HTTP. H2 runs in process, so this measures our per-call overhead rather than network round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+    private static final int TASKS = 5000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("service-benchmark");
+        taskService = context.getBean(TaskService.class);
+        ids = taskService.createTasks(BenchmarkTasks.fresh(TASKS, 42)).stream()
+                .mapToLong(Task::getId)
+                .toArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public TaskPage getTaskPage() {
+        return taskService.getTaskPage(TaskPageQuery.builder().build());
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(BenchmarkTasks.fresh(1, System.nanoTime()).get(0));
+    }
+
+    @Benchmark
+    public Task updateTaskPriority() {
+        Priority priority = Priority.values()[ThreadLocalRandom.current().nextInt(Priority.values().length)];
+        return taskService.updateTaskPriority(randomId(), priority);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(randomId(), BenchmarkTasks.fresh(1, System.nanoTime()).get(0));
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
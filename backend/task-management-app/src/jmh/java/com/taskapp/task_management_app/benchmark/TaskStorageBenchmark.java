@@ -0,0 +1,120 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskDueDateCount;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same TaskServiceImpl and repository calls on the JPA repositories (in-process H2, as in TaskServiceBenchmark) and
+ * on the embedded store of the {@code standalone} profile. Both keep the data in process, so the difference is the
+ * cost of Hibernate, SQL and JDBC against in-memory indexes and a log append.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStorageBenchmark {
+    private static final int TASKS = 10_000;
+
+    @Param({"jpa", "standalone"})
+    private String storage;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private Path directory;
+    private long[] ids;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("task-store-benchmark");
+        context = storage.equals("standalone")
+                ? BenchmarkApplication.start("storage-benchmark",
+                        "spring.profiles.active=standalone", "task.storage.directory=" + directory)
+                : BenchmarkApplication.start("storage-benchmark");
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        ids = new long[TASKS];
+        for (int created = 0; created < TASKS; created += 1000) {
+            List<Task> batch = taskService.createTasks(BenchmarkTasks.fresh(1000, created));
+            for (int i = 0; i < batch.size(); i++) {
+                ids[created + i] = batch.get(i).getId();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Task getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public TaskPage getTaskPage() {
+        return taskService.getTaskPage(TaskPageQuery.builder().status(TaskStatus.TODO).build());
+    }
+
+    @Benchmark
+    public List<TaskStatusPriorityCount> countByStatusAndPriority() {
+        return taskRepository.countByStatusAndPriority();
+    }
+
+    @Benchmark
+    public List<TaskDueDateCount> countOpenByDueDate() {
+        return taskRepository.countOpenByDueDate();
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return taskService.createTask(BenchmarkTasks.fresh(1, System.nanoTime()).get(0));
+    }
+
+    @Benchmark
+    public Task updateTaskPriority() {
+        Priority priority = Priority.values()[ThreadLocalRandom.current().nextInt(Priority.values().length)];
+        return taskService.updateTaskPriority(randomId(), priority);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(randomId(), BenchmarkTasks.fresh(1, System.nanoTime()).get(0));
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
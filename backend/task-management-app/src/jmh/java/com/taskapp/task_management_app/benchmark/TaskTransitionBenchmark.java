@@ -0,0 +1,94 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskTransitionResult;
+import com.taskapp.task_management_app.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving every task to another status: one updateTaskStatus call (and transaction) per task, as repeated
+ * PUT /api/v1/tasks/{id}/status requests do, against a single bulk transition by ids or by filter. Each invocation
+ * flips all tasks between TODO and IN_PROGRESS, so every one of them is written.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskTransitionBenchmark {
+
+    @Param({"10000"})
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Long> ids;
+    private TaskStatus current;
+    private TaskStatus target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transition-benchmark-" + tasks);
+        taskService = context.getBean(TaskService.class);
+        ids = new ArrayList<>(tasks);
+        for (int created = 0; created < tasks; created += 1000) {
+            List<Task> batch = BenchmarkTasks.fresh(Math.min(1000, tasks - created), created);
+            batch.forEach(task -> task.setStatus(TaskStatus.TODO));
+            taskService.createTasks(batch).forEach(task -> ids.add(task.getId()));
+        }
+        current = TaskStatus.TODO;
+    }
+
+    @Setup(Level.Invocation)
+    public void flip() {
+        target = current == TaskStatus.TODO ? TaskStatus.IN_PROGRESS : TaskStatus.TODO;
+    }
+
+    @TearDown(Level.Invocation)
+    public void flipped() {
+        current = target;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        for (Long id : ids) {
+            taskService.updateTaskStatus(id, target);
+        }
+        return ids.size();
+    }
+
+    @Benchmark
+    public TaskTransitionResult byIds() {
+        return taskService.transitionStatus(TaskSelection.builder().ids(ids).build(), target);
+    }
+
+    @Benchmark
+    public TaskTransitionResult byFilter() {
+        return taskService.transitionStatus(TaskSelection.builder().status(current).build(), target);
+    }
+}
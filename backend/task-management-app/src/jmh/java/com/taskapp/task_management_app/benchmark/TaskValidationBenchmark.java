@@ -0,0 +1,81 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.taskapp.task_management_app.dto.TaskUpSertDTO;
+import com.taskapp.task_management_app.dto.mapper.TaskMapper;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The write-request path before the service: bean validation of the payload, then mapping it to an entity.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskValidationBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TaskUpSertDTO validTask;
+    private TaskUpSertDTO invalidTask;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTask = new TaskUpSertDTO("Prepare the quarterly release", "Collect the changes, write the notes and "
+                + "schedule the deployment window.", TaskStatus.TODO, Priority.HIGH, LocalDate.now().plusDays(5));
+        invalidTask = new TaskUpSertDTO(" ", "x".repeat(1200), TaskStatus.TODO, Priority.LOW, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Task toEntity() {
+        return taskMapper.toEntity(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskUpSertDTO>> validateValid() {
+        return validator.validate(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskUpSertDTO>> validateInvalid() {
+        return validator.validate(invalidTask);
+    }
+
+    @Benchmark
+    public Task validateAndMap() {
+        if (!validator.validate(validTask).isEmpty()) {
+            throw new IllegalStateException("Benchmark payload should be valid");
+        }
+        return taskMapper.toEntity(validTask);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskapp.task_management_app.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.taskapp.task_management_app.dto.mapper.TaskJsonSerializer;
+import com.taskapp.task_management_app.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding cost of a task list response per wire format, with and without gzip as the container applies it.
+ * The encoded sizes are printed once per trial, since JMH itself only reports time and allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskWireFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"10000"})
+    private int size;
+
+    private final OutputStream discard = OutputStream.nullOutputStream();
+    private ObjectMapper mapper;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .serializers(new TaskJsonSerializer())
+                .build();
+        tasks = BenchmarkTasks.loaded(size);
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        mapper.writeValue(plain, tasks);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            mapper.writeValue(gzip, tasks);
+        }
+        System.out.printf("%n%s, %d tasks: %d bytes, %d bytes gzipped%n",
+                format, size, plain.size(), compressed.size());
+    }
+
+    @Benchmark
+    public void encode() throws IOException {
+        mapper.writeValue(discard, tasks);
+    }
+
+    @Benchmark
+    public void encodeGzip() throws IOException {
+        // Closing the gzip stream closes the target, so it gets its own.
+        try (GZIPOutputStream gzip = new GZIPOutputStream(OutputStream.nullOutputStream())) {
+            mapper.writeValue(gzip, tasks);
+        }
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskapp.task_management_app.admission;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Admits requests to {@link Admitted} handler methods before they run and releases the permit when the request
+ * completes. A shed request's {@code TaskOverloadedException} goes through the handler exception resolvers like
+ * any exception from the handler itself.
+ * <p>
+ * An asynchronous request (an export streaming its body) keeps its permit until the response is complete, and the
+ * async dispatch that completes it is not admitted again. An event stream only holds its permit while subscribing:
+ * once its emitter is returned the connection stays open without using a request thread.
+ */
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionInterceptor(AdmissionLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Admitted admitted = handlerMethod.getMethodAnnotation(Admitted.class);
+            if (admitted != null) {
+                request.setAttribute(PERMIT_ATTRIBUTE, limiter.admit(admitted.value()));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod
+                && ResponseBodyEmitter.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType())) {
+            release(request);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdmissionLimiter.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.close();
+        }
+    }
+}
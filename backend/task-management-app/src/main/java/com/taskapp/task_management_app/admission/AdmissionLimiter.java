@@ -0,0 +1,166 @@
+package com.taskapp.task_management_app.admission;
+
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.exception.TaskOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded concurrency per endpoint class. Each lane (reads, scans, writes) is a fair semaphore with a bounded
+ * number of waiters and a short queue timeout; a request that finds the queue full or times out in it is shed with
+ * a {@link TaskOverloadedException} rather than queueing on the connection pool.
+ * <p>
+ * A scan takes a scan permit and then a read permit. Scans can therefore hold at most {@code scans.max-concurrent}
+ * of the read permits, and point reads keep the rest even while full-table reads pile up.
+ * <p>
+ * Meters: {@code task.admission.in.flight} and {@code task.admission.queued} per lane,
+ * {@code task.admission.wait} (time to admission) per class, {@code task.admission.shed} per class and reason.
+ */
+public class AdmissionLimiter {
+    public static final String METRIC_PREFIX = "task.admission";
+
+    private final Lane reads;
+    private final Lane scans;
+    private final Lane writes;
+    private final Duration retryAfter;
+    private final Map<AdmissionClass, Timer> waitTimers = new EnumMap<>(AdmissionClass.class);
+    private final Map<AdmissionClass, Counter> queueFullCounters = new EnumMap<>(AdmissionClass.class);
+    private final Map<AdmissionClass, Counter> timeoutCounters = new EnumMap<>(AdmissionClass.class);
+
+    public AdmissionLimiter(AdmissionProperties properties, MeterRegistry registry) {
+        this.reads = new Lane("reads", properties.getReads(), registry);
+        this.scans = new Lane("scans", properties.getScans(), registry);
+        this.writes = new Lane("writes", properties.getWrites(), registry);
+        this.retryAfter = properties.getRetryAfter();
+        for (AdmissionClass admissionClass : AdmissionClass.values()) {
+            String tag = admissionClass.name().toLowerCase();
+            waitTimers.put(admissionClass, Timer.builder(METRIC_PREFIX + ".wait")
+                    .description("Time requests waited for admission")
+                    .tag("class", tag)
+                    .register(registry));
+            queueFullCounters.put(admissionClass, shedCounter(registry, tag, "queue_full"));
+            timeoutCounters.put(admissionClass, shedCounter(registry, tag, "timeout"));
+        }
+    }
+
+    /**
+     * Waits for a permit of the given class, up to its lane's queue timeout.
+     *
+     * @return the permit, to be closed when the request completes
+     * @throws TaskOverloadedException if the request is shed
+     */
+    public Permit admit(AdmissionClass admissionClass) {
+        long start = System.nanoTime();
+        Permit permit = switch (admissionClass) {
+            case READ -> new Permit(acquire(admissionClass, reads, reads.timeoutNanos));
+            case WRITE -> new Permit(acquire(admissionClass, writes, writes.timeoutNanos));
+            case SCAN -> {
+                Lane scan = acquire(admissionClass, scans, scans.timeoutNanos);
+                try {
+                    // The read permit comes out of the scan's own queue timeout, not a fresh one.
+                    yield new Permit(scan, acquire(admissionClass, reads,
+                            scans.timeoutNanos - (System.nanoTime() - start)));
+                } catch (TaskOverloadedException ex) {
+                    scan.semaphore.release();
+                    throw ex;
+                }
+            }
+        };
+        waitTimers.get(admissionClass).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return permit;
+    }
+
+    private Lane acquire(AdmissionClass admissionClass, Lane lane, long timeoutNanos) {
+        Lane.Outcome outcome = lane.acquire(timeoutNanos);
+        if (outcome == Lane.Outcome.ADMITTED) {
+            return lane;
+        }
+        (outcome == Lane.Outcome.QUEUE_FULL ? queueFullCounters : timeoutCounters).get(admissionClass).increment();
+        throw new TaskOverloadedException("Too many concurrent " + admissionClass.name().toLowerCase()
+                + " requests, retry later", retryAfter);
+    }
+
+    private static Counter shedCounter(MeterRegistry registry, String admissionClass, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".shed")
+                .description("Requests rejected by admission control")
+                .tag("class", admissionClass)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /** Permits held by one admitted request; closing releases them. Closing more than once has no effect. */
+    public static final class Permit implements AutoCloseable {
+        private final Lane[] lanes;
+        private boolean released;
+
+        private Permit(Lane... lanes) {
+            this.lanes = lanes;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            for (Lane lane : lanes) {
+                lane.semaphore.release();
+            }
+        }
+    }
+
+    private static final class Lane {
+        enum Outcome { ADMITTED, QUEUE_FULL, TIMEOUT }
+
+        private final Semaphore semaphore;
+        private final int maxQueued;
+        private final long timeoutNanos;
+        private final AtomicInteger queued = new AtomicInteger();
+
+        Lane(String name, AdmissionProperties.Lane config, MeterRegistry registry) {
+            this.semaphore = new Semaphore(config.getMaxConcurrent(), true);
+            this.maxQueued = config.getMaxQueued();
+            this.timeoutNanos = config.getQueueTimeout().toNanos();
+            int maxConcurrent = config.getMaxConcurrent();
+            Gauge.builder(METRIC_PREFIX + ".in.flight", semaphore, s -> maxConcurrent - s.availablePermits())
+                    .description("Requests holding a permit")
+                    .tag("lane", name)
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".queued", queued, AtomicInteger::get)
+                    .description("Requests waiting for a permit")
+                    .tag("lane", name)
+                    .register(registry);
+        }
+
+        Outcome acquire(long timeoutNanos) {
+            try {
+                // Unlike tryAcquire(), the timed form honours fairness and does not overtake waiting requests.
+                if (semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                    return Outcome.ADMITTED;
+                }
+                if (queued.incrementAndGet() > maxQueued) {
+                    queued.decrementAndGet();
+                    return Outcome.QUEUE_FULL;
+                }
+                try {
+                    return timeoutNanos > 0 && semaphore.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)
+                            ? Outcome.ADMITTED : Outcome.TIMEOUT;
+                } finally {
+                    queued.decrementAndGet();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Outcome.TIMEOUT;
+            }
+        }
+    }
+}
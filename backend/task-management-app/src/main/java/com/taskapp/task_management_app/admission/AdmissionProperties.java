@@ -0,0 +1,36 @@
+package com.taskapp.task_management_app.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission limits under {@code task.admission}. Keep {@code reads} plus {@code writes} below the connection pool's
+ * {@code maximum-pool-size}, with a few connections to spare for the scheduled jobs: then an admitted request never
+ * waits for a connection, and everything beyond the limits waits here, briefly and in bounded numbers, instead of in
+ * the pool for its full connection timeout.
+ */
+@Data
+@ConfigurationProperties("task.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private Lane reads = new Lane(10, 50, Duration.ofMillis(100));
+    /** Scans also hold a read permit, so this should stay below reads.max-concurrent. */
+    private Lane scans = new Lane(3, 10, Duration.ofMillis(50));
+    private Lane writes = new Lane(5, 25, Duration.ofMillis(100));
+    /** Sent as Retry-After (in whole seconds, at least one) with a 503. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+        private int maxConcurrent;
+        /** Requests allowed to wait for a permit; beyond that they are shed at once. */
+        private int maxQueued;
+        private Duration queueTimeout;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskapp.task_management_app.admission;
+
+import com.taskapp.task_management_app.enums.AdmissionClass;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a handler method under admission control: the request waits for a permit of the given class before the
+ * handler runs, and gets a 503 if none frees up in time. See {@link AdmissionLimiter}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Admitted {
+    AdmissionClass value();
+}
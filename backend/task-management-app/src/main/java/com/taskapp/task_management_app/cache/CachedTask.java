@@ -0,0 +1,45 @@
+package com.taskapp.task_management_app.cache;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A task as held in the task cache. Tasks are mutable entities, so the cache keeps this copy and hands out a new
+ * {@link Task} for every hit; a caller changing its task cannot change what the next caller gets.
+ */
+@Value
+public class CachedTask {
+    Long id;
+    String title;
+    String description;
+    TaskStatus status;
+    Priority priority;
+    LocalDate dueDate;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long version;
+
+    public static CachedTask of(Task task) {
+        return new CachedTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(), task.getVersion());
+    }
+
+    public Task toTask() {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(version);
+        return task;
+    }
+}
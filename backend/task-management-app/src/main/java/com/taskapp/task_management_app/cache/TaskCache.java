@@ -0,0 +1,78 @@
+package com.taskapp.task_management_app.cache;
+
+import com.taskapp.task_management_app.config.CacheConfig;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of single tasks by id, in the {@value CacheConfig#TASKS_CACHE} cache. Entries are
+ * {@link CachedTask} copies and are evicted once a change to the task has committed.
+ * <p>
+ * The cache is local to this instance and only its own writes evict it, so a hit is served only after the task's
+ * current version has been checked against the cached one. That check reads one column by primary key, where a miss
+ * reads and maps the whole row, description included; a task changed through another instance is reloaded.
+ * <p>
+ * A read that loaded a task before a write committed must not put it back after the write's eviction. Every
+ * eviction first bumps a generation counter for the task's stripe; a read notes the generation before loading and
+ * evicts its own entry again if it changed meanwhile. Either that second eviction or the writer's comes after the
+ * put, so a stale task never stays in the cache.
+ */
+@Component
+public class TaskCache {
+    private static final int STRIPES = 1024;
+
+    private final Cache cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public TaskCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+    }
+
+    /**
+     * The cached task if it still has the version {@code currentVersion} reports ({@code null} when the task is gone),
+     * otherwise the one {@code loader} reads, which is cached unless it was read inside a writing transaction and might
+     * not be committed yet. Always returns a task of the caller's own.
+     */
+    public Task get(Long id, Supplier<Long> currentVersion, Supplier<Task> loader) {
+        CachedTask cached = cache.get(id, CachedTask.class);
+        if (cached != null) {
+            if (cached.getVersion().equals(currentVersion.get())) {
+                return cached.toTask();
+            }
+            cache.evict(id);
+        }
+        int stripe = stripe(id);
+        long generation = generations.get(stripe);
+        Task task = loader.get();
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            cache.put(id, CachedTask.of(task));
+            if (generations.get(stripe) != generation) {
+                cache.evict(id);
+            }
+        }
+        return task;
+    }
+
+    public void evict(Long id) {
+        generations.incrementAndGet(stripe(id));
+        cache.evict(id);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        evict(event.getTaskId());
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (STRIPES - 1);
+    }
+}
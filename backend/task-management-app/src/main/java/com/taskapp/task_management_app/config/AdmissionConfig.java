@@ -0,0 +1,37 @@
+package com.taskapp.task_management_app.config;
+
+import com.taskapp.task_management_app.admission.AdmissionInterceptor;
+import com.taskapp.task_management_app.admission.AdmissionLimiter;
+import com.taskapp.task_management_app.admission.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Admission control for the task endpoints marked {@code @Admitted}; {@code task.admission.enabled=false} turns it
+ * off. Shed requests are answered with 503 and Retry-After by the GlobalExceptionHandler.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.admission.enabled", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionLimiter admissionLimiter(AdmissionProperties properties, MeterRegistry registry) {
+        return new AdmissionLimiter(properties, registry);
+    }
+
+    @Bean
+    public WebMvcConfigurer admissionInterceptorConfigurer(AdmissionLimiter admissionLimiter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new AdmissionInterceptor(admissionLimiter)).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sets up the cache manager behind the task read-through cache ({@code TaskCache}). The cache backend, its size and
+ * TTL come from {@code spring.cache.*}; the {@code hibernate-cache} profile switches to the Hibernate second-level
+ * cache instead.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TASKS_CACHE = "tasks";
+}
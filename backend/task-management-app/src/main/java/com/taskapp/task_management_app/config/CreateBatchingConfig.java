@@ -0,0 +1,26 @@
+package com.taskapp.task_management_app.config;
+
+import com.taskapp.task_management_app.ingest.CreateBatchingProperties;
+import com.taskapp.task_management_app.ingest.TaskCreateBatcher;
+import com.taskapp.task_management_app.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Group commit for single-task creates, off unless {@code task.create-batching.enabled=true}. Without the batcher
+ * bean every POST /api/v1/tasks commits its own transaction.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.create-batching.enabled")
+@EnableConfigurationProperties(CreateBatchingProperties.class)
+public class CreateBatchingConfig {
+
+    @Bean
+    public TaskCreateBatcher taskCreateBatcher(TaskService taskService, CreateBatchingProperties properties,
+                                               MeterRegistry registry) {
+        return new TaskCreateBatcher(taskService, properties, registry);
+    }
+}
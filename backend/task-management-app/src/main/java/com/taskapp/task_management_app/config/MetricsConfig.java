@@ -0,0 +1,45 @@
+package com.taskapp.task_management_app.config;
+
+import com.taskapp.task_management_app.metrics.ServiceTimingInterceptor;
+import com.taskapp.task_management_app.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Service-level latency metrics. HTTP request timers ({@code http.server.requests}), Hikari pool metrics and the
+ * per-session SQL metrics need no beans; their histograms are configured under {@code management.metrics}.
+ * <p>
+ * The service timer is the outermost advice on TaskService, ahead of the transaction, so the flush at commit is
+ * part of the measured call.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor taskServiceTimingAdvisor(@Lazy MeterRegistry registry) {
+        StaticMethodMatcherPointcut taskServiceMethods = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return ReflectionUtils.findMethod(TaskService.class, method.getName(), method.getParameterTypes()) != null;
+            }
+        };
+        taskServiceMethods.setClassFilter(new RootClassFilter(TaskService.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(taskServiceMethods,
+                new ServiceTimingInterceptor(registry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskapp.task_management_app.config;
+
+import com.taskapp.task_management_app.datasource.ReplicaDataSourceProperties;
+import com.taskapp.task_management_app.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single connection pool with a primary pool and one pool per configured replica, routed by
+ * {@link ReplicaRoutingDataSource}. JPA and Liquibase use the lazy proxy in front of it.
+ */
+@Configuration
+@Profile("read-replicas")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             ReplicaDataSourceProperties replicaProperties,
+                                                             Environment environment) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, ReplicaRoutingDataSource.PRIMARY, environment);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Replica> replicaList = replicaProperties.getReplicas();
+        for (int i = 0; i < replicaList.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaList.get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            String name = "replica-" + (i + 1);
+            configure(pool, name, environment);
+            pool.setConnectionTimeout(replicaProperties.getReplicaConnectionTimeout().toMillis());
+            replicas.put(name, pool);
+        }
+        log.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /** Boot only instruments pools that are beans; these get the same hikaricp.* meters, tagged by pool name. */
+    @Bean
+    public MeterBinder replicaPoolMetrics(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return registry -> replicaRoutingDataSource.getResolvedDataSources().values().forEach(target -> {
+            if (target instanceof HikariDataSource pool && pool.getMetricsTrackerFactory() == null) {
+                try {
+                    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                } catch (IllegalStateException ex) {
+                    log.warn("Failed to bind metrics for pool {}: {}", pool.getPoolName(), ex.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Replaces Boot's check of every routing target: reads fall back to the primary, so a replica that is down
+     * must not take the application out of its load balancer. Only the primary decides the db status.
+     */
+    @Bean
+    public HealthContributor dbHealthContributor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new DataSourceHealthIndicator(replicaRoutingDataSource.getResolvedDefaultDataSource());
+    }
+
+    /** Reports which replicas are in the rotation, as last seen by requests and the periodic health check. */
+    @Bean
+    public HealthIndicator replicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return () -> Health.up().withDetails(replicaRoutingDataSource.getReplicaStatus()).build();
+    }
+
+    /** Applies spring.datasource.hikari.* the way Boot does for its own pool. */
+    private static void configure(HikariDataSource pool, String name, Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskapp.task_management_app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the periodic task stats resync.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
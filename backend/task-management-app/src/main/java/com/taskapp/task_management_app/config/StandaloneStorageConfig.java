@@ -0,0 +1,76 @@
+package com.taskapp.task_management_app.config;
+
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
+import com.taskapp.task_management_app.repository.JobLockRepository;
+import com.taskapp.task_management_app.repository.TaskCollectionStateRepository;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.repository.TaskTombstoneRepository;
+import com.taskapp.task_management_app.storage.StandaloneArchivedTaskRepository;
+import com.taskapp.task_management_app.storage.StandaloneJobLockRepository;
+import com.taskapp.task_management_app.storage.StandaloneStorageProperties;
+import com.taskapp.task_management_app.storage.StandaloneTaskCollectionStateRepository;
+import com.taskapp.task_management_app.storage.StandaloneTaskRepository;
+import com.taskapp.task_management_app.storage.StandaloneTaskTombstoneRepository;
+import com.taskapp.task_management_app.storage.StandaloneTransactionManager;
+import com.taskapp.task_management_app.storage.TaskStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+
+/**
+ * Runs the application without a database: the task repositories are backed by the embedded {@link TaskStore}
+ * instead of JPA. The {@code standalone} profile in application.yml turns off the DataSource, JPA and Liquibase
+ * auto-configuration this replaces.
+ */
+@Configuration
+@Profile("standalone")
+@EnableConfigurationProperties(StandaloneStorageProperties.class)
+public class StandaloneStorageConfig {
+
+    /** Closing the store writes a final snapshot, so the next start has no log to replay. */
+    @Bean(destroyMethod = "close")
+    public TaskStore taskStore(StandaloneStorageProperties properties) throws IOException {
+        return TaskStore.open(properties.getDirectory(), Math.toIntExact(properties.getInitialLogSize().toBytes()),
+                properties.getCompactAfter().toBytes(), properties.isSyncWrites());
+    }
+
+    @Bean
+    public TaskRepository taskRepository(TaskStore store) {
+        return new StandaloneTaskRepository(store);
+    }
+
+    @Bean
+    public ArchivedTaskRepository archivedTaskRepository(TaskStore store) {
+        return new StandaloneArchivedTaskRepository(store);
+    }
+
+    @Bean
+    public TaskTombstoneRepository taskTombstoneRepository(TaskStore store) {
+        return new StandaloneTaskTombstoneRepository(store);
+    }
+
+    @Bean
+    public JobLockRepository jobLockRepository() {
+        return new StandaloneJobLockRepository();
+    }
+
+    @Bean
+    public TaskCollectionStateRepository taskCollectionStateRepository(TaskStore store) {
+        return new StandaloneTaskCollectionStateRepository(store);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(TaskStore store) {
+        return new StandaloneTransactionManager(store);
+    }
+
+    @Bean
+    public SchedulingConfigurer taskStoreSnapshots(TaskStore store, StandaloneStorageProperties properties) {
+        return registrar -> registrar.addFixedDelayTask(store::compact, properties.getSnapshotInterval());
+    }
+}
@@ -1,20 +1,53 @@
 package com.taskapp.task_management_app.controller;
 
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.dto.BulkItemResultDTO;
+import com.taskapp.task_management_app.dto.BulkTaskResponseDTO;
+import com.taskapp.task_management_app.dto.TaskBulkUpdateDTO;
+import com.taskapp.task_management_app.dto.TaskListView;
+import com.taskapp.task_management_app.dto.TaskPageResponseDTO;
 import com.taskapp.task_management_app.dto.TaskResponseDTO;
+import com.taskapp.task_management_app.dto.TaskSelectionDTO;
+import com.taskapp.task_management_app.dto.TaskTransitionResponseDTO;
 import com.taskapp.task_management_app.dto.TaskUpSertDTO;
 import com.taskapp.task_management_app.dto.mapper.TaskMapper;
 import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.enums.BulkItemStatus;
 import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskSortField;
 import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.event.TaskCollectionVersion;
+import com.taskapp.task_management_app.ingest.TaskCreateBatcher;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskTransitionResult;
 import com.taskapp.task_management_app.service.TaskService;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -23,69 +56,211 @@ import java.util.List;
 public class TaskController {
     private final TaskService taskService;
     private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TaskCollectionVersion collectionVersion;
+    private final ObjectProvider<TaskCreateBatcher> createBatcher;
 
 
     /**
-     * Get all tasks
-     * GET /api/tasks
+     * Get all tasks; fields= limits the columns read and the fields returned (the id is always included).
+     * Archived tasks are left out unless includeArchived=true.
+     * Honours If-None-Match / If-Modified-Since against the collection version
+     * GET /api/v1/tasks?fields=id,title,status&includeArchived=
      */
+    @Admitted(AdmissionClass.SCAN)
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks() {
-        log.info("GET /api/tasks - Fetching all tasks");
-        List<Task> tasks = taskService.getAllTasks();
-        log.info("Retrieved {} tasks", tasks.size());
+    public ResponseEntity<TaskListView> getAllTasks(@RequestParam(required = false) String fields,
+                                                    @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                    WebRequest request) {
+        log.debug("GET /api/tasks - Fetching all tasks (fields={})", fields);
+        Set<TaskField> selectedFields = TaskField.parse(fields);
+        // Read the stamp before the data, so a concurrent write can only make the stamp older than the body.
+        // That needs the body to include every change in the stamp, which a lagging replica may not.
+        TaskCollectionVersion.Stamp stamp = collectionVersion.current();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+        List<Task> tasks = stamp.settled()
+                ? taskService.getAllTasks(selectedFields, includeArchived)
+                : ReplicaRouting.onPrimary(() -> taskService.getAllTasks(selectedFields, includeArchived));
+        log.debug("Retrieved {} tasks", tasks.size());
 
-        return ResponseEntity.ok(taskMapper.toResponseDTOList(tasks));
+        return ResponseEntity.ok(new TaskListView(tasks, selectedFields));
     }
 
     /**
-     * Get task by ID
+     * Get one page of tasks using keyset (cursor) pagination; archived tasks only with includeArchived=true
+     * GET /api/v1/tasks/page?status=&priority=&dueBefore=&sort=&direction=&cursor=&limit=&includeArchived=
+     */
+    @Admitted(AdmissionClass.READ)
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageResponseDTO> getTaskPage(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueBefore,
+            @RequestParam(defaultValue = "CREATED_AT") TaskSortField sort,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TaskPageQuery.DEFAULT_LIMIT) int limit,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        log.debug("GET /api/v1/tasks/page - Fetching task page (sort={} {}, limit={})", sort, direction, limit);
+        TaskCollectionVersion.Stamp stamp = collectionVersion.current();
+        if (request.checkNotModified(stamp.etag(), stamp.lastModified())) {
+            return null;
+        }
+
+        TaskPageQuery query = TaskPageQuery.builder()
+                .status(status)
+                .priority(priority)
+                .dueBefore(dueBefore)
+                .sort(sort)
+                .direction(direction)
+                .after(cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, sort, direction))
+                .limit(limit)
+                .includeArchived(includeArchived)
+                .build();
+        TaskPage page = stamp.settled()
+                ? taskService.getTaskPage(query)
+                : ReplicaRouting.onPrimary(() -> taskService.getTaskPage(query));
+
+        return ResponseEntity.ok(new TaskPageResponseDTO(
+                page.getTasks(),
+                page.hasMore() ? page.getNextCursor().encode() : null,
+                page.hasMore()));
+    }
+
+    /**
+     * Get task by ID, archived or not; honours If-None-Match / If-Modified-Since
      * GET /api/tasks/{id}
      */
+    @Admitted(AdmissionClass.READ)
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
-        log.info("GET /api/tasks/{} - Fetching task by ID", id);
+    public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id, WebRequest request) {
+        log.debug("GET /api/tasks/{} - Fetching task by ID", id);
         Task task = taskService.getTaskById(id);
+        if (request.checkNotModified(TaskETags.etag(task), TaskETags.lastModified(task))) {
+            return null;
+        }
         return ResponseEntity.ok(taskMapper.toResponseDTO(task));
     }
 
     /**
-     * Create new task
+     * Create new task; with task.create-batching it is committed together with concurrent creates
      * POST /api/tasks
      */
+    @Admitted(AdmissionClass.WRITE)
     @PostMapping
     public ResponseEntity<TaskResponseDTO> createTask(@Valid @RequestBody TaskUpSertDTO task) {
-        log.info("POST /api/tasks - Creating new task: {}", task.getTitle());
+        log.debug("POST /api/tasks - Creating new task: {}", task.getTitle());
 
-        Task createdTask = taskService.createTask(taskMapper.toEntity(task));
+        Task entity = taskMapper.toEntity(task);
+        TaskCreateBatcher batcher = createBatcher.getIfAvailable();
+        Task createdTask = batcher != null ? batcher.create(entity) : taskService.createTask(entity);
         return ResponseEntity.status(HttpStatus.CREATED).body(taskMapper.toResponseDTO(createdTask));
     }
 
     /**
-     * Update existing task
+     * Create many tasks in one transaction; invalid items are reported and skipped
+     * POST /api/v1/tasks/bulk
+     */
+    @Admitted(AdmissionClass.WRITE)
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponseDTO> createTasks(@RequestBody List<TaskUpSertDTO> tasks) {
+        log.debug("POST /api/v1/tasks/bulk - Creating {} tasks", tasks.size());
+
+        BulkItemResultDTO[] results = new BulkItemResultDTO[tasks.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Task> validTasks = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Map<String, String> errors = validate(tasks.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                validTasks.add(taskMapper.toEntity(tasks.get(i)));
+            } else {
+                results[i] = new BulkItemResultDTO(i, null, BulkItemStatus.INVALID, errors);
+            }
+        }
+
+        List<Task> createdTasks = taskService.createTasks(validTasks);
+        for (int i = 0; i < createdTasks.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = new BulkItemResultDTO(index, createdTasks.get(i).getId(), BulkItemStatus.CREATED, null);
+        }
+
+        return ResponseEntity.ok(toBulkResponse(results, createdTasks.size()));
+    }
+
+    /**
+     * Update many tasks in one transaction; invalid items and unknown ids are reported and skipped
+     * PUT /api/v1/tasks/bulk
+     */
+    @Admitted(AdmissionClass.WRITE)
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkTaskResponseDTO> updateTasks(@RequestBody List<TaskBulkUpdateDTO> tasks) {
+        log.debug("PUT /api/v1/tasks/bulk - Updating {} tasks", tasks.size());
+
+        BulkItemResultDTO[] results = new BulkItemResultDTO[tasks.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Task> validTasks = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Map<String, String> errors = validate(tasks.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+                validTasks.add(taskMapper.toEntity(tasks.get(i)));
+            } else {
+                results[i] = new BulkItemResultDTO(i, tasks.get(i).getId(), BulkItemStatus.INVALID, errors);
+            }
+        }
+
+        Set<Long> updatedIds = taskService.updateTasks(validTasks).stream()
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+        int succeeded = 0;
+        for (int index : validIndexes) {
+            Long id = tasks.get(index).getId();
+            boolean updated = updatedIds.contains(id);
+            results[index] = new BulkItemResultDTO(index, id,
+                    updated ? BulkItemStatus.UPDATED : BulkItemStatus.NOT_FOUND, null);
+            if (updated) {
+                succeeded++;
+            }
+        }
+
+        return ResponseEntity.ok(toBulkResponse(results, succeeded));
+    }
+
+    /**
+     * Update existing task; with If-Match the update only applies to that version (412 otherwise)
      * PUT /api/v1/tasks/{id}
      */
+    @Admitted(AdmissionClass.WRITE)
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable Long id,
-                                                      @Valid @RequestBody TaskUpSertDTO taskUpdateDTO) {
-        log.info("PUT /api/v1/tasks/{} - Updating task", id);
+                                                      @Valid @RequestBody TaskUpSertDTO taskUpdateDTO,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("PUT /api/v1/tasks/{} - Updating task", id);
 
         Task taskEntity = taskMapper.toEntity(taskUpdateDTO);
 
-        Task updatedTask = taskService.updateTask(id, taskEntity);
+        Long expectedVersion = ifMatch == null ? null : TaskETags.expectedVersion(ifMatch, id);
+        Task updatedTask = taskService.updateTask(id, taskEntity, expectedVersion);
 
         TaskResponseDTO responseDTO = taskMapper.toResponseDTO(updatedTask);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.etag(updatedTask))
+                .body(responseDTO);
     }
 
     /**
      * Delete task
      * DELETE /api/tasks/{id}
      */
+    @Admitted(AdmissionClass.WRITE)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        log.info("DELETE /api/tasks/{} - Deleting task", id);
+        log.debug("DELETE /api/tasks/{} - Deleting task", id);
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
@@ -94,9 +269,10 @@ public class TaskController {
      * Mark task as in progress
      * PUT /api/v1/tasks/{id}/start
      */
+    @Admitted(AdmissionClass.WRITE)
     @PutMapping("/{id}/start")
     public ResponseEntity<TaskResponseDTO> markTaskAsInProgress(@PathVariable Long id) {
-        log.info("PUT /api/v1/tasks/{}/start - Marking task as in progress", id);
+        log.debug("PUT /api/v1/tasks/{}/start - Marking task as in progress", id);
         Task inProgressTask = taskService.markTaskAsInProgress(id);
         return ResponseEntity.ok(taskMapper.toResponseDTO(inProgressTask));
     }
@@ -105,9 +281,10 @@ public class TaskController {
      * Mark task as completed
      * PUT /api/v1/tasks/{id}/start
      */
+    @Admitted(AdmissionClass.WRITE)
     @PutMapping("/{id}/completed")
     public ResponseEntity<TaskResponseDTO> markTaskAsCompleted(@PathVariable Long id) {
-        log.info("PUT /api/v1/tasks/{}/start - Marking task as completed", id);
+        log.debug("PUT /api/v1/tasks/{}/start - Marking task as completed", id);
         Task completedTask = taskService.markTaskAsCompleted(id);
         return ResponseEntity.ok(taskMapper.toResponseDTO(completedTask));
     }
@@ -115,13 +292,15 @@ public class TaskController {
 
     /**
      * Update task status
-     * PUT /api/v1/tasks/{id}/status
+     * PUT /api/v1/tasks/{id}/status?status=&expectedStatus=
      */
+    @Admitted(AdmissionClass.WRITE)
     @PutMapping("/{id}/status")
     public ResponseEntity<TaskResponseDTO> updateTaskStatus(@PathVariable Long id,
-                                                            @RequestParam TaskStatus status) {
-        log.info("PUT /api/v1/tasks/{}/status - Updating status to: {}", id, status);
-        Task updatedTask = taskService.updateTaskStatus(id, status);
+                                                            @RequestParam TaskStatus status,
+                                                            @RequestParam(required = false) TaskStatus expectedStatus) {
+        log.debug("PUT /api/v1/tasks/{}/status - Updating status to: {}", id, status);
+        Task updatedTask = taskService.updateTaskStatus(id, status, expectedStatus);
         return ResponseEntity.ok(taskMapper.toResponseDTO(updatedTask));
     }
 
@@ -129,12 +308,65 @@ public class TaskController {
      * Update task priority
      * PUT /api/v1/tasks/{id}/priority
      */
+    @Admitted(AdmissionClass.WRITE)
     @PutMapping("/{id}/priority")
     public ResponseEntity<TaskResponseDTO> updateTaskPriority(@PathVariable Long id,
                                                               @RequestParam Priority priority) {
-        log.info("PUT /api/v1/tasks/{}/priority - Updating priority to: {}", id, priority);
+        log.debug("PUT /api/v1/tasks/{}/priority - Updating priority to: {}", id, priority);
         Task updatedTask = taskService.updateTaskPriority(id, priority);
         return ResponseEntity.ok(taskMapper.toResponseDTO(updatedTask));
     }
 
+    /**
+     * Move many tasks to a status in a few set-based updates; the body lists ids or a filter
+     * PUT /api/v1/tasks/bulk/status?status=
+     */
+    @Admitted(AdmissionClass.WRITE)
+    @PutMapping("/bulk/status")
+    public ResponseEntity<TaskTransitionResponseDTO> transitionStatus(@RequestParam TaskStatus status,
+                                                                      @Valid @RequestBody TaskSelectionDTO selection) {
+        log.debug("PUT /api/v1/tasks/bulk/status - Moving tasks to status: {}", status);
+        TaskTransitionResult result = taskService.transitionStatus(toSelection(selection), status);
+        return ResponseEntity.ok(toTransitionResponse(result));
+    }
+
+    /**
+     * Move many tasks to a priority in a few set-based updates; the body lists ids or a filter
+     * PUT /api/v1/tasks/bulk/priority?priority=
+     */
+    @Admitted(AdmissionClass.WRITE)
+    @PutMapping("/bulk/priority")
+    public ResponseEntity<TaskTransitionResponseDTO> transitionPriority(@RequestParam Priority priority,
+                                                                        @Valid @RequestBody TaskSelectionDTO selection) {
+        log.debug("PUT /api/v1/tasks/bulk/priority - Moving tasks to priority: {}", priority);
+        TaskTransitionResult result = taskService.transitionPriority(toSelection(selection), priority);
+        return ResponseEntity.ok(toTransitionResponse(result));
+    }
+
+    private Map<String, String> validate(Object dto) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<Object> violation : validator.validate(dto)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private TaskSelection toSelection(TaskSelectionDTO dto) {
+        TaskSelection.TaskSelectionBuilder selection = TaskSelection.builder().ids(dto.getIds());
+        if (dto.getFilter() != null) {
+            selection.status(dto.getFilter().getStatus())
+                    .priority(dto.getFilter().getPriority())
+                    .dueBefore(dto.getFilter().getDueBefore());
+        }
+        return selection.build();
+    }
+
+    private TaskTransitionResponseDTO toTransitionResponse(TaskTransitionResult result) {
+        return new TaskTransitionResponseDTO(result.getMatched(), result.getUpdated(), result.getMissingIds());
+    }
+
+    private BulkTaskResponseDTO toBulkResponse(BulkItemResultDTO[] results, int succeeded) {
+        return new BulkTaskResponseDTO(results.length, succeeded, results.length - succeeded, List.of(results));
+    }
+
 }
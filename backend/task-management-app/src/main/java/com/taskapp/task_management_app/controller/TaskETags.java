@@ -0,0 +1,55 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Entity tags and modification times for single task responses. A task's tag is {@code <id>-<version>}; open
+ * tasks with a due date also carry today's date, since their overdue and due-soon flags change at midnight.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String etag(Task task) {
+        String etag = task.getId() + "-" + task.getVersion();
+        return dependsOnDate(task) ? etag + "-" + LocalDate.now().toEpochDay() : etag;
+    }
+
+    static long lastModified(Task task) {
+        long updatedAt = task.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!dependsOnDate(task)) {
+            return updatedAt;
+        }
+        long startOfToday = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(updatedAt, startOfToday);
+    }
+
+    /**
+     * The version an {@code If-Match} header expects for task {@code id}: {@code null} for {@code *}, and -1 when it
+     * names some other resource or is not one of our tags, which no task version matches.
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        String etag = ifMatch.trim();
+        if (etag.equals("*")) {
+            return null;
+        }
+        if (etag.length() < 2 || etag.charAt(0) != '"' || etag.charAt(etag.length() - 1) != '"') {
+            return -1L;
+        }
+        String[] parts = etag.substring(1, etag.length() - 1).split("-");
+        try {
+            return parts.length >= 2 && Long.parseLong(parts[0]) == id ? Long.parseLong(parts[1]) : -1L;
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static boolean dependsOnDate(Task task) {
+        return task.getDueDate() != null && task.getStatus() != TaskStatus.COMPLETED;
+    }
+}
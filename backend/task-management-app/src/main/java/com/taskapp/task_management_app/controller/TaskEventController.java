@@ -0,0 +1,32 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.service.TaskEventStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/tasks/events")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventController {
+    private final TaskEventStreamService taskEventStreamService;
+
+    /**
+     * Stream task changes as server-sent events (created, updated, deleted, resync)
+     * GET /api/v1/tasks/events
+     */
+    @Admitted(AdmissionClass.READ)
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.debug("GET /api/v1/tasks/events - Subscribing to task events after: {}", lastEventId);
+        return taskEventStreamService.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.enums.ExportFormat;
+import com.taskapp.task_management_app.service.TaskExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/tasks/export")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportController {
+    private final TaskExportService taskExportService;
+
+    /**
+     * Stream every task as NDJSON or CSV, then the archived tasks with includeArchived=true
+     * GET /api/v1/tasks/export?format=NDJSON|CSV&includeArchived=
+     */
+    @Admitted(AdmissionClass.SCAN)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                             @RequestParam(defaultValue = "false") boolean includeArchived) {
+        log.info("GET /api/v1/tasks/export - Exporting tasks as {}", format);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> taskExportService.exportTasks(format, includeArchived, out));
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.dto.SearchIndexRebuildDTO;
+import com.taskapp.task_management_app.dto.TaskSearchResponseDTO;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.query.TaskSearchPage;
+import com.taskapp.task_management_app.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/tasks/search")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchController {
+    private final TaskSearchService taskSearchService;
+
+    /**
+     * Ranked full-text search over title and description, with prefix matching; archived tasks only with
+     * includeArchived=true
+     * GET /api/v1/tasks/search?q=&page=&size=&includeArchived=
+     */
+    @Admitted(AdmissionClass.SCAN)
+    @GetMapping
+    public ResponseEntity<TaskSearchResponseDTO> searchTasks(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestParam(defaultValue = "false") boolean includeArchived) {
+        log.debug("GET /api/v1/tasks/search - Searching tasks for: {}", q);
+        TaskSearchPage result = taskSearchService.search(q, page, size, includeArchived);
+
+        return ResponseEntity.ok(new TaskSearchResponseDTO(
+                result.getTasks(),
+                result.getTotal(),
+                result.getPage(),
+                result.getSize()));
+    }
+
+    /**
+     * Rebuild the search index from the database
+     * POST /api/v1/tasks/search/rebuild
+     */
+    @Admitted(AdmissionClass.SCAN)
+    @PostMapping("/rebuild")
+    public ResponseEntity<SearchIndexRebuildDTO> rebuildIndex() {
+        log.info("POST /api/v1/tasks/search/rebuild - Rebuilding search index");
+        return ResponseEntity.ok(new SearchIndexRebuildDTO(taskSearchService.rebuildIndex()));
+    }
+}
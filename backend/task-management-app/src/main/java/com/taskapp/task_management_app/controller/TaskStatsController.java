@@ -0,0 +1,40 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.dto.TaskStatsDTO;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.service.TaskStatsService;
+import com.taskapp.task_management_app.stats.TaskStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/tasks/stats")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsController {
+    private final TaskStatsService taskStatsService;
+
+    /**
+     * Task counts by status and priority, plus overdue and due-soon counts
+     * GET /api/v1/tasks/stats
+     */
+    @Admitted(AdmissionClass.READ)
+    @GetMapping
+    public ResponseEntity<TaskStatsDTO> getStats() {
+        log.debug("GET /api/v1/tasks/stats - Fetching task stats");
+        TaskStats stats = taskStatsService.getStats();
+
+        return ResponseEntity.ok(new TaskStatsDTO(
+                stats.getTotal(),
+                stats.getByStatus(),
+                stats.getByPriority(),
+                stats.getOverdue(),
+                stats.getDueSoon(),
+                stats.getSyncedAt()));
+    }
+}
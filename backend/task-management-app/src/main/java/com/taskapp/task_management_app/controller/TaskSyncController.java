@@ -0,0 +1,45 @@
+package com.taskapp.task_management_app.controller;
+
+import com.taskapp.task_management_app.admission.Admitted;
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.dto.TaskChangesResponseDTO;
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.query.TaskChanges;
+import com.taskapp.task_management_app.query.TaskSyncToken;
+import com.taskapp.task_management_app.service.TaskSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/tasks/changes")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSyncController {
+    private final TaskSyncService taskSyncService;
+
+    /**
+     * Tasks changed and ids of tasks removed since the token of the previous response; without a token, or with an
+     * expired one, every task with resync=true, a page at a time
+     * GET /api/v1/tasks/changes?since=
+     */
+    @Admitted(AdmissionClass.READ)
+    @GetMapping
+    public ResponseEntity<TaskChangesResponseDTO> getChanges(@RequestParam(required = false) String since) {
+        log.debug("GET /api/v1/tasks/changes - Fetching task changes since {}", since);
+        TaskSyncToken token = since == null || since.isBlank() ? null : TaskSyncToken.decode(since);
+        // The token only moves forward, so the changes must not come from a replica that is behind it.
+        TaskChanges changes = ReplicaRouting.onPrimary(() -> taskSyncService.getChanges(token));
+
+        return ResponseEntity.ok(new TaskChangesResponseDTO(
+                changes.isResync(),
+                changes.getTasks(),
+                changes.getDeletedIds(),
+                changes.getNext().encode(),
+                changes.hasMore()));
+    }
+}
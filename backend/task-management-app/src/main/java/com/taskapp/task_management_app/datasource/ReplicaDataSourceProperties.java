@@ -0,0 +1,27 @@
+package com.taskapp.task_management_app.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under {@code task.datasource}. Each replica gets its own pool with the primary's
+ * {@code spring.datasource.hikari} settings, except for the connection timeout: a replica that does not answer
+ * should send the request to the primary quickly rather than hold it for the primary's timeout.
+ */
+@Data
+@ConfigurationProperties("task.datasource")
+public class ReplicaDataSourceProperties {
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
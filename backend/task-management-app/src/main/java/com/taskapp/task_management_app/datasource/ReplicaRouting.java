@@ -0,0 +1,49 @@
+package com.taskapp.task_management_app.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the reads of the current thread to the primary database, overriding {@link ReplicaRoutingDataSource}'s
+ * choice of a replica for read-only transactions. Without replicas configured, pinning has no effect.
+ * <p>
+ * The routing decision is taken when a transaction first uses its connection, so the pin has to be in place before
+ * the transaction's first statement, not necessarily before it begins.
+ */
+public final class ReplicaRouting {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    /** Runs a read against the primary, e.g. one whose result outlives the request in a cache. */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (isPinnedToPrimary()) {
+            return read.get();
+        }
+        pinToPrimary();
+        try {
+            return read.get();
+        } finally {
+            clear();
+        }
+    }
+
+    public static void onPrimary(Runnable read) {
+        onPrimary(() -> {
+            read.run();
+            return null;
+        });
+    }
+}
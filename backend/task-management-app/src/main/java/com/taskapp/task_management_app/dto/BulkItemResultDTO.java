@@ -0,0 +1,18 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.enums.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDTO {
+    private int index;
+    private Long id;
+    private BulkItemStatus status;
+    private Map<String, String> validationErrors;
+}
@@ -0,0 +1,17 @@
+package com.taskapp.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponseDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResultDTO> results;
+}
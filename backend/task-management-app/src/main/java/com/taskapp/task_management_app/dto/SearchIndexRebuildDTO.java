@@ -0,0 +1,12 @@
+package com.taskapp.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexRebuildDTO {
+    private int indexedTasks;
+}
@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TaskBulkUpdateDTO extends TaskUpSertDTO {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+}
@@ -0,0 +1,19 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.enums.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDTO {
+    private TaskChangeType type;
+    private Long taskId;
+    /**
+     * The task after the change; {@code null} for deletions. Status and priority changes carry only the fields
+     * they wrote, which clients merge into the task they have.
+     */
+    private TaskView task;
+}
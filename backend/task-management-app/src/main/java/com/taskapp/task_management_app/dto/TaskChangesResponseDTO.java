@@ -0,0 +1,22 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponseDTO {
+    /** True when items is the first page of every task and replaces the client's copy rather than being merged. */
+    private boolean resync;
+    /** Rendered by TaskJsonSerializer in the TaskResponseDTO shape. */
+    private List<Task> items;
+    private List<Long> deletedIds;
+    private String nextToken;
+    /** True while a resync has pages left; the client asks again with nextToken right away. */
+    private boolean hasMore;
+}
@@ -0,0 +1,21 @@
+package com.taskapp.task_management_app.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.taskapp.task_management_app.dto.mapper.TaskListViewSerializer;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskField;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A task list response restricted to a sparse fieldset. Written as a plain JSON array of task objects that only
+ * contain the requested fields, in the same order and format as TaskResponseDTO.
+ */
+@Value
+@JsonSerialize(using = TaskListViewSerializer.class)
+public class TaskListView {
+    List<Task> tasks;
+    Set<TaskField> fields;
+}
@@ -0,0 +1,18 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponseDTO {
+    /** Rendered by TaskJsonSerializer in the TaskResponseDTO shape. */
+    private List<Task> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponseDTO {
+    /** Rendered by TaskJsonSerializer in the TaskResponseDTO shape. */
+    private List<Task> items;
+    private long total;
+    private int page;
+    private int size;
+}
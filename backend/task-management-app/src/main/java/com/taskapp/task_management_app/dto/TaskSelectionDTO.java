@@ -0,0 +1,33 @@
+package com.taskapp.task_management_app.dto;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Body of the bulk transition endpoints: {@code {"ids": [...]}} or
+ * {@code {"filter": {"status": "IN_PROGRESS", "priority": "HIGH"}}}, not both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSelectionDTO {
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+
+    private Filter filter;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+        private TaskStatus status;
+        private Priority priority;
+        private LocalDate dueBefore;
+    }
+}
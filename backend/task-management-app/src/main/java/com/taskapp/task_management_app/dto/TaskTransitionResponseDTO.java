@@ -0,0 +1,16 @@
+package com.taskapp.task_management_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionResponseDTO {
+    private int matched;
+    private int updated;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,21 @@
+package com.taskapp.task_management_app.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.taskapp.task_management_app.dto.mapper.TaskViewSerializer;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskField;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * A single task written with only some of its fields, in the same order and format as TaskResponseDTO. The event
+ * stream announces bulk status and priority changes this way ({@link TaskField#STATUS_CHANGE},
+ * {@link TaskField#PRIORITY_CHANGE}) rather than reading the rest of each task back.
+ */
+@Value
+@JsonSerialize(using = TaskViewSerializer.class)
+public class TaskView {
+    Task task;
+    Set<TaskField> fields;
+}
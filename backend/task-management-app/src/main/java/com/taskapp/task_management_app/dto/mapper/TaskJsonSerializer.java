@@ -0,0 +1,170 @@
+package com.taskapp.task_management_app.dto.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskapp.task_management_app.dto.TaskListView;
+import com.taskapp.task_management_app.dto.TaskResponseDTO;
+import com.taskapp.task_management_app.dto.TaskView;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskField;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.util.Set;
+
+/**
+ * Writes a {@link Task} straight to the generator in exactly the shape of {@link TaskResponseDTO}, so list
+ * responses need no intermediate DTO per task and no reflection. The overdue/due-soon flags are computed against
+ * one date per serialization call, taken when the first task is written.
+ */
+@JsonComponent
+public class TaskJsonSerializer extends StdSerializer<Task> {
+    private static final String TODAY_ATTRIBUTE = TaskJsonSerializer.class.getName() + ".today";
+    /** Same pattern as the {@code @JsonFormat} on TaskResponseDTO's timestamps. */
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString STATUS_LABEL = new SerializedString("statusLabel");
+    private static final SerializableString PRIORITY_LABEL = new SerializedString("priorityLabel");
+    private static final SerializableString OVERDUE = new SerializedString("overdue");
+    private static final SerializableString DUE_SOON = new SerializedString("dueSoon");
+
+    private final Clock clock;
+
+    public TaskJsonSerializer() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public TaskJsonSerializer(Clock clock) {
+        super(Task.class);
+        this.clock = clock;
+    }
+
+    @Override
+    public void serialize(Task task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        serialize(task, TaskField.ALL, gen, provider);
+    }
+
+    /** Writes only the given fields, in response order; see {@link TaskListView} and {@link TaskView}. */
+    public void serialize(Task task, Set<TaskField> fields, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        LocalDate today = today(provider);
+
+        gen.writeStartObject(task);
+        if (fields.contains(TaskField.ID)) {
+            gen.writeFieldName(ID);
+            if (task.getId() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(task.getId());
+            }
+        }
+        if (fields.contains(TaskField.TITLE)) {
+            gen.writeFieldName(TITLE);
+            gen.writeString(task.getTitle());
+        }
+        if (fields.contains(TaskField.DESCRIPTION)) {
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(task.getDescription());
+        }
+        if (fields.contains(TaskField.STATUS)) {
+            gen.writeFieldName(STATUS);
+            gen.writeString(task.getStatus() == null ? null : task.getStatus().name());
+        }
+        if (fields.contains(TaskField.PRIORITY)) {
+            gen.writeFieldName(PRIORITY);
+            gen.writeString(task.getPriority() == null ? null : task.getPriority().name());
+        }
+        if (fields.contains(TaskField.DUE_DATE)) {
+            gen.writeFieldName(DUE_DATE);
+            if (task.getDueDate() == null) {
+                gen.writeNull();
+            } else {
+                // Jackson's LocalDateSerializer writes ISO dates.
+                writeDate(gen, task.getDueDate(), DateTimeFormatter.ISO_LOCAL_DATE);
+            }
+        }
+        if (fields.contains(TaskField.CREATED_AT)) {
+            gen.writeFieldName(CREATED_AT);
+            writeTimestamp(gen, task.getCreatedAt());
+        }
+        if (fields.contains(TaskField.UPDATED_AT)) {
+            gen.writeFieldName(UPDATED_AT);
+            writeTimestamp(gen, task.getUpdatedAt());
+        }
+        if (fields.contains(TaskField.STATUS_LABEL)) {
+            gen.writeFieldName(STATUS_LABEL);
+            gen.writeString(task.getStatus() == null ? null : task.getStatus().getLabel());
+        }
+        if (fields.contains(TaskField.PRIORITY_LABEL)) {
+            gen.writeFieldName(PRIORITY_LABEL);
+            gen.writeString(task.getPriority() == null ? null : task.getPriority().getLabel());
+        }
+        if (fields.contains(TaskField.OVERDUE)) {
+            gen.writeFieldName(OVERDUE);
+            gen.writeBoolean(TaskMapper.isOverdue(task, today));
+        }
+        if (fields.contains(TaskField.DUE_SOON)) {
+            gen.writeFieldName(DUE_SOON);
+            gen.writeBoolean(TaskMapper.isDueSoon(task, today));
+        }
+        gen.writeEndObject();
+    }
+
+    private LocalDate today(SerializerProvider provider) {
+        // Provider attributes live for one writeValue call, i.e. one response body or one export.
+        LocalDate today = (LocalDate) provider.getAttribute(TODAY_ATTRIBUTE);
+        if (today == null) {
+            today = LocalDate.now(clock);
+            provider.setAttribute(TODAY_ATTRIBUTE, today);
+        }
+        return today;
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, LocalDateTime timestamp) throws IOException {
+        if (timestamp == null) {
+            gen.writeNull();
+        } else {
+            writeDate(gen, timestamp, TIMESTAMP_FORMAT);
+        }
+    }
+
+    /**
+     * Writes yyyy-MM-dd without going through the formatter, which allocates a builder and a string per value.
+     * Both formatters print exactly that for years 0-9999; beyond that their sign rules apply.
+     */
+    private static void writeDate(JsonGenerator gen, Temporal date, DateTimeFormatter formatter) throws IOException {
+        int year = date.get(ChronoField.YEAR);
+        if (year < 0 || year > 9999) {
+            gen.writeString(formatter.format(date));
+            return;
+        }
+        int month = date.get(ChronoField.MONTH_OF_YEAR);
+        int day = date.get(ChronoField.DAY_OF_MONTH);
+        char[] chars = {
+                digit(year / 1000), digit(year / 100 % 10), digit(year / 10 % 10), digit(year % 10), '-',
+                digit(month / 10), digit(month % 10), '-',
+                digit(day / 10), digit(day % 10)};
+        gen.writeString(chars, 0, chars.length);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
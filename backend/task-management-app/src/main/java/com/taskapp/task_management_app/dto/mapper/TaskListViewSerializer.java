@@ -0,0 +1,36 @@
+package com.taskapp.task_management_app.dto.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskapp.task_management_app.dto.TaskListView;
+import com.taskapp.task_management_app.entity.Task;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link TaskListView} as an array, delegating each element to the registered {@link TaskJsonSerializer}
+ * so both share the clock snapshot of the serialization call.
+ */
+public class TaskListViewSerializer extends StdSerializer<TaskListView> {
+    /** For ObjectMappers that were not configured by Spring Boot and so lack the @JsonComponent. */
+    private static final TaskJsonSerializer DEFAULT_TASK_SERIALIZER = new TaskJsonSerializer();
+
+    public TaskListViewSerializer() {
+        super(TaskListView.class);
+    }
+
+    @Override
+    public void serialize(TaskListView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<?> registered = provider.findValueSerializer(Task.class);
+        TaskJsonSerializer taskSerializer = registered instanceof TaskJsonSerializer serializer
+                ? serializer
+                : DEFAULT_TASK_SERIALIZER;
+        gen.writeStartArray(view, view.getTasks().size());
+        for (Task task : view.getTasks()) {
+            taskSerializer.serialize(task, view.getFields(), gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
@@ -1,20 +1,23 @@
 package com.taskapp.task_management_app.dto.mapper;
 
+import com.taskapp.task_management_app.dto.TaskBulkUpdateDTO;
 import com.taskapp.task_management_app.dto.TaskResponseDTO;
 import com.taskapp.task_management_app.dto.TaskUpSertDTO;
 import com.taskapp.task_management_app.entity.Task;
-import com.taskapp.task_management_app.enums.Priority;
 import com.taskapp.task_management_app.enums.TaskStatus;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 
 @Component
 public  class TaskMapper {
+    /** Open tasks due within this many days from today are flagged as due soon. */
+    public static final int DUE_SOON_DAYS = 3;
+
     public  Task toEntity(TaskUpSertDTO dto) {
         Task task = new Task();
         task.setTitle(dto.getTitle());
@@ -25,7 +28,17 @@ public  class TaskMapper {
         return task;
     }
 
+    public Task toEntity(TaskBulkUpdateDTO dto) {
+        Task task = toEntity((TaskUpSertDTO) dto);
+        task.setId(dto.getId());
+        return task;
+    }
+
     public TaskResponseDTO toResponseDTO(Task task) {
+        return toResponseDTO(task, LocalDate.now());
+    }
+
+    public TaskResponseDTO toResponseDTO(Task task, LocalDate today) {
         TaskResponseDTO dto = new TaskResponseDTO();
         dto.setId(task.getId());
         dto.setTitle(task.getTitle());
@@ -36,47 +49,34 @@ public  class TaskMapper {
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
 
-        dto.setOverdue(isOverdue(task));
-        dto.setDueSoon(isDueSoon(task));
-        dto.setStatusLabel(getStatusLabel(task.getStatus()));
-        dto.setPriorityLabel(getPriorityLabel(task.getPriority()));
+        dto.setOverdue(isOverdue(task, today));
+        dto.setDueSoon(isDueSoon(task, today));
+        dto.setStatusLabel(task.getStatus().getLabel());
+        dto.setPriorityLabel(task.getPriority().getLabel());
 
         return dto;
     }
 
     public List<TaskResponseDTO> toResponseDTOList(List<Task> tasks) {
-        return tasks.stream()
-                .map(this::toResponseDTO)
-                .collect(Collectors.toList());
+        LocalDate today = LocalDate.now();
+        List<TaskResponseDTO> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(toResponseDTO(task, today));
+        }
+        return dtos;
     }
 
-    private boolean isOverdue(Task task) {
+    public static boolean isOverdue(Task task, LocalDate today) {
         return task.getDueDate() != null
-                && task.getDueDate().isBefore(LocalDate.now())
+                && task.getDueDate().isBefore(today)
                 && task.getStatus() != TaskStatus.COMPLETED;
     }
 
-    private boolean isDueSoon(Task task) {
+    public static boolean isDueSoon(Task task, LocalDate today) {
         if (task.getDueDate() == null || task.getStatus() == TaskStatus.COMPLETED) {
             return false;
         }
-        LocalDate threeDaysFromNow = LocalDate.now().plusDays(3);
-        return task.getDueDate().isBefore(threeDaysFromNow) || task.getDueDate().isEqual(threeDaysFromNow);
-    }
-
-    private String getStatusLabel(TaskStatus status) {
-        return switch (status) {
-            case TODO -> "To Do";
-            case IN_PROGRESS -> "In Progress";
-            case COMPLETED -> "Completed";
-        };
-    }
-
-    private String getPriorityLabel(Priority priority) {
-        return switch (priority) {
-            case LOW -> "Low";
-            case MEDIUM -> "Medium";
-            case HIGH -> "High";
-        };
+        // Same as dueDate <= today + DUE_SOON_DAYS, without allocating the shifted date.
+        return task.getDueDate().toEpochDay() - today.toEpochDay() <= DUE_SOON_DAYS;
     }
 }
@@ -0,0 +1,29 @@
+package com.taskapp.task_management_app.dto.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskapp.task_management_app.dto.TaskView;
+import com.taskapp.task_management_app.entity.Task;
+
+import java.io.IOException;
+
+/** Writes a {@link TaskView} through the registered {@link TaskJsonSerializer}, like {@link TaskListViewSerializer}. */
+public class TaskViewSerializer extends StdSerializer<TaskView> {
+    /** For ObjectMappers that were not configured by Spring Boot and so lack the @JsonComponent. */
+    private static final TaskJsonSerializer DEFAULT_TASK_SERIALIZER = new TaskJsonSerializer();
+
+    public TaskViewSerializer() {
+        super(TaskView.class);
+    }
+
+    @Override
+    public void serialize(TaskView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonSerializer<?> registered = provider.findValueSerializer(Task.class);
+        TaskJsonSerializer taskSerializer = registered instanceof TaskJsonSerializer serializer
+                ? serializer
+                : DEFAULT_TASK_SERIALIZER;
+        taskSerializer.serialize(view.getTask(), view.getFields(), gen, provider);
+    }
+}
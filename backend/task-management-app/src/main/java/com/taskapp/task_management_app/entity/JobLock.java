@@ -0,0 +1,25 @@
+package com.taskapp.task_management_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of {@code job_locks}: the lease on a scheduled job that runs on one instance at a time. See
+ * {@code JobLockRepository}.
+ */
+@Entity
+@Table(name = "job_locks")
+@Data
+public class JobLock {
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "locked_by", length = 64)
+    private String lockedBy;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -7,7 +7,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -15,8 +18,14 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
 @Data
 public class Task {
+    /**
+     * The AUTO_INCREMENT column, so an insert needs no id allocation on a second connection. Hibernate cannot batch
+     * IDENTITY inserts; bulk creates go through {@code TaskRepository#insertAll} instead.
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,13 +51,20 @@ public class Task {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
-    @CreationTimestamp
+    @CreationTimestamp(source = SourceType.DB)
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @UpdateTimestamp
+    /**
+     * Written by the statement itself from the database's clock, as is createdAt, so that delta sync compares
+     * timestamps from one clock however many instances write. Hibernate reads both back after the write.
+     */
+    @UpdateTimestamp(source = SourceType.DB)
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
 }
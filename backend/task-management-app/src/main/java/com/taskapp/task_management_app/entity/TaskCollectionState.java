@@ -0,0 +1,32 @@
+package com.taskapp.task_management_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * The single row of {@code task_collection_state}: a version that every transaction changing tasks raises, and the
+ * time of that change. See {@code TaskCollectionStateRepository}.
+ */
+@Entity
+@Table(name = "task_collection_state")
+@Data
+public class TaskCollectionState {
+    @Id
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public static TaskCollectionState of(long version, LocalDateTime changedAt) {
+        TaskCollectionState state = new TaskCollectionState();
+        state.setId(1);
+        state.setVersion(version);
+        state.setChangedAt(changedAt);
+        return state;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskapp.task_management_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Left in {@code task_tombstones} when a task is deleted or archived, so delta sync can tell clients to drop it.
+ * A task that is archived and later deleted has two; clients drop it once.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Data
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public static TaskTombstone of(Long taskId, LocalDateTime deletedAt) {
+        TaskTombstone tombstone = new TaskTombstone();
+        tombstone.setTaskId(taskId);
+        tombstone.setDeletedAt(deletedAt);
+        return tombstone;
+    }
+}
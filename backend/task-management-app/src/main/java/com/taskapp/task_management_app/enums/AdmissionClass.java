@@ -0,0 +1,13 @@
+package com.taskapp.task_management_app.enums;
+
+/**
+ * Cost class of a task endpoint, for admission control. Reads and writes have separate concurrency limits;
+ * scans count against the read limit and are capped below it, so point reads always keep some capacity.
+ */
+public enum AdmissionClass {
+    /** Lookups by id, bounded (keyset) pages, stats and event stream subscriptions. */
+    READ,
+    /** Reads of the whole table or search index: lists, exports, searches and index rebuilds. */
+    SCAN,
+    WRITE
+}
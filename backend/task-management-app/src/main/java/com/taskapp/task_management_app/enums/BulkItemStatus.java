@@ -0,0 +1,8 @@
+package com.taskapp.task_management_app.enums;
+
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    INVALID,
+    NOT_FOUND
+}
@@ -1,7 +1,18 @@
 package com.taskapp.task_management_app.enums;
 
 public enum Priority {
-    LOW,
-    MEDIUM,
-    HIGH
+    LOW("Low"),
+    MEDIUM("Medium"),
+    HIGH("High");
+
+    private final String label;
+
+    Priority(String label) {
+        this.label = label;
+    }
+
+    /** Display label sent alongside the priority in task responses. */
+    public String getLabel() {
+        return label;
+    }
 }
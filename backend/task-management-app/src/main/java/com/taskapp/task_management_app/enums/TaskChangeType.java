@@ -0,0 +1,9 @@
+package com.taskapp.task_management_app.enums;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /** Moved to the archive table unchanged; still readable by id and with includeArchived. */
+    ARCHIVED
+}
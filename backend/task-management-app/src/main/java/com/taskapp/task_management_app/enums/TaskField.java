@@ -0,0 +1,79 @@
+package com.taskapp.task_management_app.enums;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Task response fields, in response order, with the entity attributes each one is computed from.
+ * Used for sparse fieldsets ({@code fields=id,title,status}): only the attributes of the requested fields are
+ * selected, and only those fields are written.
+ */
+public enum TaskField {
+    ID("id", "id"),
+    TITLE("title", "title"),
+    DESCRIPTION("description", "description"),
+    STATUS("status", "status"),
+    PRIORITY("priority", "priority"),
+    DUE_DATE("dueDate", "dueDate"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    STATUS_LABEL("statusLabel", "status"),
+    PRIORITY_LABEL("priorityLabel", "priority"),
+    OVERDUE("overdue", "dueDate", "status"),
+    DUE_SOON("dueSoon", "dueDate", "status");
+
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+    /**
+     * What a bulk status change announces per task without reading it back: what it writes, and the flags that
+     * depend on the status, computed with the due date its lock read.
+     */
+    public static final Set<TaskField> STATUS_CHANGE =
+            Collections.unmodifiableSet(EnumSet.of(ID, STATUS, STATUS_LABEL, UPDATED_AT, OVERDUE, DUE_SOON));
+    /** What a bulk priority change announces, like {@link #STATUS_CHANGE}. */
+    public static final Set<TaskField> PRIORITY_CHANGE =
+            Collections.unmodifiableSet(EnumSet.of(ID, PRIORITY, PRIORITY_LABEL, UPDATED_AT));
+
+    private final String jsonName;
+    private final List<String> attributes;
+
+    TaskField(String jsonName, String... attributes) {
+        this.jsonName = jsonName;
+        this.attributes = List.of(attributes);
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public List<String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Parses a comma-separated list of response field names. The id is always included, since clients need it to
+     * address the task; a blank list means every field.
+     *
+     * @throws IllegalArgumentException for an unknown field name
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<TaskField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            parsed.add(fromJsonName(name.trim()));
+        }
+        return parsed;
+    }
+
+    private static TaskField fromJsonName(String name) {
+        for (TaskField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task field: " + name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskapp.task_management_app.enums;
+
+public enum TaskSortField {
+    CREATED_AT("createdAt", false),
+    DUE_DATE("dueDate", true);
+
+    private final String attribute;
+    private final boolean nullable;
+
+    TaskSortField(String attribute, boolean nullable) {
+        this.attribute = attribute;
+        this.nullable = nullable;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+}
@@ -1,7 +1,18 @@
 package com.taskapp.task_management_app.enums;
 
 public enum TaskStatus {
-    TODO,
-    IN_PROGRESS,
-    COMPLETED,
+    TODO("To Do"),
+    IN_PROGRESS("In Progress"),
+    COMPLETED("Completed");
+
+    private final String label;
+
+    TaskStatus(String label) {
+        this.label = label;
+    }
+
+    /** Display label sent alongside the status in task responses. */
+    public String getLabel() {
+        return label;
+    }
 }
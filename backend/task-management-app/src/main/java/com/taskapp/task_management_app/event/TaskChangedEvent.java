@@ -0,0 +1,59 @@
+package com.taskapp.task_management_app.event;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskChangeType;
+import com.taskapp.task_management_app.enums.TaskField;
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Published by the task service for every task it creates, updates or deletes. Listeners that keep derived
+ * state (search index, counters, change feeds) should use {@code @TransactionalEventListener} so they only see
+ * committed changes.
+ */
+@Value
+public class TaskChangedEvent {
+    TaskChangeType type;
+    Long taskId;
+    /** The task after the change; {@code null} for deletions and archivals. */
+    Task task;
+    /** The task before the change; {@code null} for creations and archivals. */
+    TaskSnapshot previous;
+    /**
+     * The fields of {@link #task} that are set. A bulk status or priority change only knows what it wrote (see
+     * {@link #patched}); every other change carries the whole task.
+     */
+    Set<TaskField> fields;
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, task.getId(), task, null, TaskField.ALL);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot previous, Task task) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, task.getId(), task, previous, TaskField.ALL);
+    }
+
+    /**
+     * An update that wrote only some columns: {@code task} has the attributes {@code fields} are computed
+     * from (the id, updatedAt, the new values and, for a status, the due date), everything else is {@code null}. Fields of {@code previous} the writer did not know are
+     * {@code null} as well.
+     */
+    public static TaskChangedEvent patched(TaskSnapshot previous, Task task, Set<TaskField> fields) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, task.getId(), task, previous, fields);
+    }
+
+    /** Archiving moves a task without changing it, so the event only names it. */
+    public static TaskChangedEvent archived(Long id) {
+        return new TaskChangedEvent(TaskChangeType.ARCHIVED, id, null, null, TaskField.ALL);
+    }
+
+    public static TaskChangedEvent deleted(Long id, TaskSnapshot previous) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, id, null, previous, TaskField.ALL);
+    }
+
+    /** Whether {@link #task} carries only some fields, as after a {@linkplain #patched bulk status or priority change}. */
+    public boolean isPartial() {
+        return !fields.equals(TaskField.ALL);
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskapp.task_management_app.event;
+
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.entity.TaskCollectionState;
+import com.taskapp.task_management_app.repository.TaskCollectionStateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A version stamp for the task collection, used to answer conditional GETs on list endpoints. It is read from the
+ * database, so every instance derives the same stamp and sees changes committed by the others, the archive job's
+ * included: every transaction that publishes a {@link TaskChangedEvent} raises the collection's version once, just
+ * before it commits, so reading the stamp is one primary key lookup however large the tables are. The stamp includes
+ * the current date too, because the overdue and due-soon flags in list responses change at midnight without any
+ * write.
+ * <p>
+ * With read replicas, a stamp read on the primary can include a change that a replica has not applied yet. Until
+ * the last change is older than {@code task.datasource.replica-lag} the stamp is not {@linkplain Stamp#settled()
+ * settled}, and list reads answered under it have to come from the primary.
+ */
+@Component
+public class TaskCollectionVersion {
+    private final TaskCollectionStateRepository stateRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long replicaLagMillis;
+
+    public TaskCollectionVersion(TaskCollectionStateRepository stateRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${task.datasource.replica-lag:PT0S}") Duration replicaLag) {
+        this.stateRepository = stateRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.replicaLagMillis = replicaLag.toMillis();
+    }
+
+    /** Reads the current stamp on the primary. */
+    public Stamp current() {
+        return ReplicaRouting.onPrimary(() -> readOnlyTransaction.execute(status ->
+                stamp(stateRepository.findCurrent())));
+    }
+
+    /**
+     * Has the publishing transaction raise the version before it commits, once however many tasks it changed. Runs in
+     * that transaction, which every task change is published from.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Task changes must be published inside the transaction that makes them");
+        }
+        // Synchronizations are per transaction, suspended along with it, so a nested one registers its own.
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(RecordChange.class::isInstance);
+        if (!registered) {
+            TransactionSynchronizationManager.registerSynchronization(new RecordChange());
+        }
+    }
+
+    private Stamp stamp(TaskCollectionState state) {
+        long lastChange = epochMillis(state.getChangedAt());
+        // A weak tag: list responses come in several equivalent encodings (JSON, Smile, CBOR, compressed or not)
+        // that share it, and the servlet container only compresses responses whose tag is weak.
+        String etag = "W/\"" + state.getVersion() + "-" + LocalDate.now().toEpochDay() + "\"";
+        long startOfToday = LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Stamp(etag, Math.max(lastChange, startOfToday),
+                System.currentTimeMillis() - lastChange >= replicaLagMillis);
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private class RecordChange implements TransactionSynchronization {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            stateRepository.recordChange();
+        }
+    }
+
+    /**
+     * The collection's version at one point in time.
+     *
+     * @param etag         weak entity tag of every list response under this version
+     * @param lastModified time of the last committed change, or the start of today if later
+     * @param settled      whether every change in this version has reached the replicas
+     */
+    public record Stamp(String etag, long lastModified, boolean settled) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskapp.task_management_app.event;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a task that derived counters depend on, captured at a point in time. Entities keep changing
+ * until the transaction commits, so the state before a change has to be copied out.
+ */
+@Value
+public class TaskSnapshot {
+    TaskStatus status;
+    Priority priority;
+    LocalDate dueDate;
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(task.getStatus(), task.getPriority(), task.getDueDate());
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskapp.task_management_app.exception;
+/**
+ * Thrown when a task changed concurrently or is not in the state a conditional update expected.
+ */
+public class TaskConflictException extends RuntimeException {
+    public TaskConflictException(String message) {
+        super(message);
+    }
+}
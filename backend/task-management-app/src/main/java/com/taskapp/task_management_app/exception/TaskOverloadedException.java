@@ -0,0 +1,18 @@
+package com.taskapp.task_management_app.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when admission control sheds a request because its endpoint class is at its concurrency limit.
+ */
+@Getter
+public class TaskOverloadedException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TaskOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskapp.task_management_app.exception;
+/**
+ * Thrown when a conditional request's precondition (such as {@code If-Match}) no longer holds for the task.
+ */
+public class TaskPreconditionFailedException extends RuntimeException {
+    public TaskPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskapp.task_management_app.ingest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Group commit for {@code POST /api/v1/tasks} under {@code task.create-batching}. The linger is added to the latency
+ * of a create that arrives alone, so keep it to a few milliseconds: under load the next creates arrive within it,
+ * and without load nobody waits for a batch to fill.
+ */
+@Data
+@ConfigurationProperties("task.create-batching")
+public class CreateBatchingProperties {
+    private boolean enabled = false;
+    /** Creates written per transaction at most; at most the bulk limit of 5000. */
+    private int maxBatchSize = 100;
+    /** How long the writer keeps collecting after the first create of a batch arrived. */
+    private Duration linger = Duration.ofMillis(2);
+    /** Creates allowed to wait for the writer; beyond that they are shed with a 503 at once. */
+    private int maxQueued = 2000;
+    /** Sent as Retry-After with that 503. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
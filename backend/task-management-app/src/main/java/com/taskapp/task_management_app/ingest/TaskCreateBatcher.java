@@ -0,0 +1,179 @@
+package com.taskapp.task_management_app.ingest;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.exception.TaskOverloadedException;
+import com.taskapp.task_management_app.service.TaskService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for single-task creates. Callers put their task on a queue and wait. One writer thread takes the
+ * first waiting create, keeps collecting for up to {@code linger} or until {@code maxBatchSize}, and writes the batch
+ * with {@link TaskService#createTasks}: one transaction, batched INSERTs and a single commit instead of one per
+ * request. Each caller gets back its own saved task, with its generated id.
+ * <p>
+ * When a batch fails, its creates are retried one at a time, so a row the database rejects only fails its own
+ * request. Request validation happens before a task is queued.
+ */
+@Slf4j
+public class TaskCreateBatcher implements SmartLifecycle {
+    /** How often an idle writer checks whether it should stop. */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final TaskService taskService;
+    private final CreateBatchingProperties properties;
+    private final BlockingQueue<PendingCreate> queue;
+    private final DistributionSummary batchSize;
+    private final Timer linger;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public TaskCreateBatcher(TaskService taskService, CreateBatchingProperties properties, MeterRegistry registry) {
+        if (properties.getMaxBatchSize() < 1 || properties.getMaxQueued() < 1) {
+            throw new IllegalArgumentException("task.create-batching max-batch-size and max-queued must be positive");
+        }
+        this.taskService = taskService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getMaxQueued());
+        this.batchSize = DistributionSummary.builder("task.create.batch.size")
+                .description("Creates written per transaction by the create batcher")
+                .register(registry);
+        this.linger = Timer.builder("task.create.batch.linger")
+                .description("Time from the first create of a batch arriving to the batch being written")
+                .register(registry);
+        Gauge.builder("task.create.batch.queued", queue, Collection::size)
+                .description("Creates waiting for the writer")
+                .register(registry);
+    }
+
+    /**
+     * Queues the task for the next batch and waits until that batch is committed. Returns the saved task, or throws
+     * what creating it alone would have thrown.
+     */
+    public Task create(Task task) {
+        if (!running) {
+            return taskService.createTask(task);
+        }
+        PendingCreate pending = new PendingCreate(task, System.nanoTime(), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            throw new TaskOverloadedException("Too many task creates are waiting to be written",
+                    properties.getRetryAfter());
+        }
+        if (!running && queue.remove(pending)) {
+            // Stopped after the check above; the queue may already have been drained for the last time.
+            writeAlone(pending);
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::writeBatches, "task-create-batcher");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Stops taking new creates into batches and writes those already queued before the pool shuts down. */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Creates queued while the writer was finishing its last batch.
+        List<PendingCreate> left = new ArrayList<>();
+        queue.drainTo(left);
+        left.forEach(this::writeAlone);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeBatches() {
+        List<PendingCreate> batch = new ArrayList<>(properties.getMaxBatchSize());
+        long lingerNanos = properties.getLinger().toNanos();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.queuedAt() + lingerNanos;
+                while (batch.size() < properties.getMaxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    // Once the linger is over, creates that are already waiting still join the batch.
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                linger.record(System.nanoTime() - first.queuedAt(), TimeUnit.NANOSECONDS);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(this::writeAlone);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingCreate> batch) {
+        batchSize.record(batch.size());
+        List<Task> saved;
+        try {
+            saved = taskService.createTasks(batch.stream().map(PendingCreate::task).toList());
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} task creates failed, writing them one at a time: {}", batch.size(), e.getMessage());
+            batch.forEach(this::writeAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(saved.get(i));
+        }
+    }
+
+    private void writeAlone(PendingCreate pending) {
+        Task task = pending.task();
+        // A failed batch may have assigned an id and version that were rolled back with it.
+        task.setId(null);
+        task.setVersion(null);
+        try {
+            pending.result().complete(taskService.createTask(task));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingCreate(Task task, long queuedAt, CompletableFuture<Task> result) {
+    }
+}
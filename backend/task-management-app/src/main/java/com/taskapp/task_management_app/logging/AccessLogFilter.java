@@ -0,0 +1,99 @@
+package com.taskapp.task_management_app.logging;
+
+import com.taskapp.task_management_app.metrics.RequestSqlStats;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one access record per request to the {@code task.access} logger, as logfmt key=value pairs:
+ * method, endpoint pattern, status, latency and the request's SQL statement count and time.
+ * <p>
+ * Client and server errors and requests slower than {@code task.access-log.slow-threshold} are always logged;
+ * other requests are sampled at {@code task.access-log.sample-rate}. Streaming requests (export, event feed) are
+ * logged when the stream completes; their SQL figures only cover the request thread.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("task.access");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(@Value("${task.access-log.sample-rate:0.1}") double sampleRate,
+                           @Value("${task.access-log.slow-threshold:PT1S}") Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        RequestSqlStats sqlStats = RequestSqlStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.clear();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, response, start, sqlStats);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, start, sqlStats);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, long start, RequestSqlStats sqlStats) {
+        long elapsed = System.nanoTime() - start;
+        int status = response.getStatus();
+        if (status < 400 && elapsed < slowThresholdNanos && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        ACCESS_LOG.info("method={} endpoint={} status={} durationUs={} sqlStatements={} sqlUs={}",
+                request.getMethod(),
+                pattern != null ? pattern : request.getRequestURI(),
+                status,
+                elapsed / 1000,
+                sqlStats.getStatements(),
+                sqlStats.getJdbcNanos() / 1000);
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskapp.task_management_app.metrics;
+
+/**
+ * JDBC statement count and time for the request running on the current thread, filled in by
+ * {@link SqlSessionMetricsListener} when a Hibernate session ends. Only collected while a request has called
+ * {@link #start()}; sessions on other threads (async exports, scheduled jobs) are not attributed to any request.
+ */
+public final class RequestSqlStats {
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    private RequestSqlStats() {
+    }
+
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void record(int statements, long jdbcNanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements += statements;
+            stats.jdbcNanos += jdbcNanos;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskapp.task_management_app.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC statements a Hibernate session executes and the time spent preparing and executing them, and
+ * records both when the session ends, also adding them to the current request's {@link RequestSqlStats}. With
+ * open-in-view a request uses one session, so these are per-request figures. Result set reading happens after
+ * execute returns and is not included.
+ * <p>
+ * Hibernate creates one instance per session from {@code hibernate.session.events.auto}, so the meters are
+ * registered with the global registry, which Spring Boot adds its registries to. Sessions that never touch the
+ * database (SSE subscriptions, cache hits) are not recorded.
+ */
+@Slf4j
+public class SqlSessionMetricsListener implements SessionEventListener {
+    private static final DistributionSummary STATEMENTS = DistributionSummary.builder("task.db.statements")
+            .description("JDBC statements executed per Hibernate session")
+            .register(Metrics.globalRegistry);
+    private static final Timer DB_TIME = Timer.builder("task.db.time")
+            .description("Time spent preparing and executing JDBC statements per Hibernate session")
+            .register(Metrics.globalRegistry);
+
+    private int statements;
+    private long jdbcNanos;
+    private long startedAt;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        jdbcNanos += System.nanoTime() - startedAt;
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        jdbcNanos += System.nanoTime() - startedAt;
+        statements++;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcNanos += System.nanoTime() - startedAt;
+        statements++;
+    }
+
+    @Override
+    public void end() {
+        if (statements == 0) {
+            return;
+        }
+        STATEMENTS.record(statements);
+        DB_TIME.record(jdbcNanos, TimeUnit.NANOSECONDS);
+        RequestSqlStats.record(statements, jdbcNanos);
+        log.debug("Session executed {} statements in {} us", statements, jdbcNanos / 1000);
+    }
+}
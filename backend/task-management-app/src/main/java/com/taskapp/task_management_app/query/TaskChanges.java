@@ -0,0 +1,24 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * What a delta sync client applies to its copy of the task list: upsert {@code tasks}, drop {@code deletedIds}.
+ * With {@code resync} the client replaces its copy with {@code tasks} instead, which is the first page of every
+ * task; while {@link #hasMore()}, it asks again right away and upserts the following pages.
+ */
+@Value
+public class TaskChanges {
+    boolean resync;
+    List<Task> tasks;
+    List<Long> deletedIds;
+    /** Where the next sync continues from. */
+    TaskSyncToken next;
+
+    public boolean hasMore() {
+        return next.isResyncing();
+    }
+}
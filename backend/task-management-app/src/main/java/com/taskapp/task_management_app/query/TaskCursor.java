@@ -0,0 +1,69 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskSortField;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Seek position of a keyset listing: the sort key and id of the last row that was returned.
+ * Clients only ever see the opaque, URL-safe token produced by {@link #encode()}.
+ */
+@Value
+public class TaskCursor {
+    private static final String SEPARATOR = "|";
+
+    TaskSortField sort;
+    Sort.Direction direction;
+    /** Sort key of the last row, {@code null} when that row has no due date. */
+    Comparable<?> value;
+    Long id;
+
+    public static TaskCursor after(TaskSortField sort, Sort.Direction direction, Task last) {
+        Comparable<?> value = switch (sort) {
+            case CREATED_AT -> last.getCreatedAt();
+            case DUE_DATE -> last.getDueDate();
+        };
+        return new TaskCursor(sort, direction, value, last.getId());
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + direction + SEPARATOR + (value == null ? "" : value) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token and checks that it was issued for the same sort order as the current request.
+     *
+     * @throws IllegalArgumentException if the token is malformed or belongs to another sort order
+     */
+    public static TaskCursor decode(String token, TaskSortField sort, Sort.Direction direction) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+        if (!sort.name().equals(parts[0]) || !direction.name().equals(parts[1])) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        try {
+            Comparable<?> value = parts[2].isEmpty() ? null : switch (sort) {
+                case CREATED_AT -> LocalDateTime.parse(parts[2]);
+                case DUE_DATE -> LocalDate.parse(parts[2]);
+            };
+            return new TaskCursor(sort, direction, value, Long.valueOf(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
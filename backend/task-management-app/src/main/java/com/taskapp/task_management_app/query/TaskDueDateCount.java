@@ -0,0 +1,12 @@
+package com.taskapp.task_management_app.query;
+
+import java.time.LocalDate;
+
+/**
+ * One row of {@code TaskRepository#countOpenByDueDate()}.
+ */
+public interface TaskDueDateCount {
+    LocalDate getDueDate();
+
+    long getCount();
+}
@@ -0,0 +1,16 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class TaskPage {
+    List<Task> tasks;
+    TaskCursor nextCursor;
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
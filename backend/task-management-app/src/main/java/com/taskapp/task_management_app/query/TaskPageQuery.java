@@ -0,0 +1,57 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskSortField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * Filters, sort order and seek position for one page of a keyset listing.
+ * A null filter means "no restriction"; a null cursor means the first page. Archived tasks are only listed
+ * with {@code includeArchived}.
+ */
+@Value
+@Builder
+public class TaskPageQuery {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    TaskStatus status;
+    Priority priority;
+    LocalDate dueBefore;
+
+    @Builder.Default
+    TaskSortField sort = TaskSortField.CREATED_AT;
+
+    @Builder.Default
+    Sort.Direction direction = Sort.Direction.DESC;
+
+    TaskCursor after;
+
+    @Builder.Default
+    int limit = DEFAULT_LIMIT;
+
+    boolean includeArchived;
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    /** The order rows are listed in: sort key (NULL lowest, as on MySQL), then id, both in the query's direction. */
+    public Comparator<Task> rowOrder() {
+        Comparator<Task> byKey = switch (sort) {
+            case CREATED_AT -> Comparator.comparing(Task::getCreatedAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            case DUE_DATE -> Comparator.comparing(Task::getDueDate,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+        Comparator<Task> order = byKey.thenComparing(Task::getId);
+        return isAscending() ? order : order.reversed();
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.entity.Task;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class TaskSearchPage {
+    /** Matching tasks of the requested page, best match first. */
+    List<Task> tasks;
+    long total;
+    int page;
+    int size;
+}
@@ -0,0 +1,31 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The tasks a bulk transition applies to: either a list of ids or the tasks matching every given filter.
+ * Filters only match tasks in the task table; listed ids are also looked up in the archive.
+ */
+@Value
+@Builder
+public class TaskSelection {
+    List<Long> ids;
+
+    TaskStatus status;
+    Priority priority;
+    LocalDate dueBefore;
+
+    public boolean isByIds() {
+        return ids != null;
+    }
+
+    public boolean hasFilter() {
+        return status != null || priority != null || dueBefore != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.query;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+
+/**
+ * One row of {@code TaskRepository#countByStatusAndPriority()}.
+ */
+public interface TaskStatusPriorityCount {
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    long getCount();
+}
@@ -0,0 +1,57 @@
+package com.taskapp.task_management_app.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a delta sync client: changes at or after {@code since} are the ones it has not seen yet. During a
+ * resync, {@code resyncAfter} is the last task id sent so far, and the next page continues after it. Clients only
+ * ever see the opaque, URL-safe token produced by {@link #encode()}.
+ */
+@Value
+@AllArgsConstructor
+public class TaskSyncToken {
+    private static final String PREFIX = "v1|";
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime since;
+    Long resyncAfter;
+
+    public TaskSyncToken(LocalDateTime since) {
+        this(since, null);
+    }
+
+    public boolean isResyncing() {
+        return resyncAfter != null;
+    }
+
+    public String encode() {
+        String raw = PREFIX + since + (isResyncing() ? SEPARATOR + resyncAfter : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static TaskSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+            String[] parts = raw.substring(PREFIX.length()).split("\\" + SEPARATOR, -1);
+            if (parts.length > 2) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+            return new TaskSyncToken(LocalDateTime.parse(parts[0]),
+                    parts.length == 2 ? Long.valueOf(parts[1]) : null);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid sync token: " + token);
+        }
+    }
+}
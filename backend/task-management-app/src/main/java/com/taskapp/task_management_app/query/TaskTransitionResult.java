@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.query;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class TaskTransitionResult {
+    /** Tasks selected, including those that already had the target value. */
+    int matched;
+    /** Tasks whose value changed. */
+    int updated;
+    /** Requested ids that exist neither in the task table nor in the archive; empty for filters. */
+    List<Long> missingIds;
+}
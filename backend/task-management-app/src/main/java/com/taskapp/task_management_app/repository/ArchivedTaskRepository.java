@@ -0,0 +1,43 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.ArchivedTask;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code tasks_archive} table as the services use it; implemented by {@link JpaArchivedTaskRepository} and by
+ * the standalone store. Tasks move between it and {@code tasks} with every column kept, including id and version,
+ * so a task looks the same from either table.
+ */
+public interface ArchivedTaskRepository {
+
+    Optional<ArchivedTask> findById(Long id);
+
+    /** Like {@link TaskRepository#findVersionById}. */
+    Optional<Long> findVersionById(Long id);
+
+    /** The archived tasks that exist, in id order. */
+    List<ArchivedTask> findAllById(Iterable<Long> ids);
+
+    void delete(ArchivedTask task);
+
+    /**
+     * Copies the given tasks into the archive. The caller must hold row locks on them (see
+     * {@link TaskRepository#findArchivable}) and delete them from {@code tasks} in the same transaction.
+     */
+    int copyFromTasks(Collection<Long> ids, LocalDateTime now);
+
+    /** Locks archived tasks that are about to be restored, so two writers cannot restore the same task. */
+    List<Long> lockAllById(Collection<Long> ids);
+
+    /** Copies archived tasks back into {@code tasks}; the caller deletes them from the archive afterwards. */
+    int copyToTasks(Collection<Long> ids);
+
+    int deleteAllByIdIn(Collection<Long> ids);
+
+    List<TaskStatusPriorityCount> countByStatusAndPriority();
+}
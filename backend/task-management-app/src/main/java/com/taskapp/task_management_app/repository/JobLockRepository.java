@@ -0,0 +1,19 @@
+package com.taskapp.task_management_app.repository;
+
+/**
+ * The {@code job_locks} table as the services use it: leases that let one instance at a time run a scheduled job.
+ * Lease times are database time, so instances with skewed clocks agree on when a lease expires. Implemented by
+ * {@link JpaJobLockRepository} and by the standalone store.
+ */
+public interface JobLockRepository {
+
+    /**
+     * Takes the lease on job {@code name} for {@code owner}, or extends it if {@code owner} holds it already, until
+     * {@code leaseSeconds} from now. Returns 1 if {@code owner} holds the lease, 0 if another owner's lease has not
+     * expired yet.
+     */
+    int acquire(String name, String owner, long leaseSeconds);
+
+    /** Gives up the lease if {@code owner} holds it. */
+    int release(String name, String owner);
+}
@@ -0,0 +1,76 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.ArchivedTask;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ArchivedTaskRepository} on the database. Tasks move between {@code tasks_archive} and {@code tasks} with
+ * INSERT ... SELECT and DELETE statements that keep every column, including id and version.
+ */
+@Repository
+public interface JpaArchivedTaskRepository extends JpaRepository<ArchivedTask, Long>, ArchivedTaskRepository {
+
+    // Declared by both supertypes; redeclared so that calls through this interface are not ambiguous.
+    @Override
+    Optional<ArchivedTask> findById(Long id);
+
+    @Override
+    @Query("SELECT a.version FROM ArchivedTask a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Override
+    List<ArchivedTask> findAllById(Iterable<Long> ids);
+
+    @Override
+    void delete(ArchivedTask task);
+
+    /**
+     * Copies the given tasks into the archive. The caller must hold row locks on them (see
+     * {@link TaskRepository#findArchivable}) and delete them from {@code tasks} in the same transaction.
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO tasks_archive " +
+            "(id, title, description, status, priority, due_date, created_at, updated_at, version, archived_at) " +
+            "SELECT id, title, description, status, priority, due_date, created_at, updated_at, version, :now " +
+            "FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** Locks archived tasks that are about to be restored, so two writers cannot restore the same task. */
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.id IN :ids")
+    List<Long> lockAllById(@Param("ids") Collection<Long> ids);
+
+    /** Copies archived tasks back into {@code tasks}; the caller deletes them from the archive afterwards. */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO tasks " +
+            "(id, title, description, status, priority, due_date, created_at, updated_at, version) " +
+            "SELECT id, title, description, status, priority, due_date, created_at, updated_at, version " +
+            "FROM tasks_archive WHERE id IN (:ids)", nativeQuery = true)
+    int copyToTasks(@Param("ids") Collection<Long> ids);
+
+    /** Leaves the persistence context alone: a restore runs between loading tasks and changing them. */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedTask a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @Query("SELECT a.status AS status, a.priority AS priority, COUNT(a) AS count FROM ArchivedTask a " +
+            "GROUP BY a.status, a.priority")
+    List<TaskStatusPriorityCount> countByStatusAndPriority();
+}
@@ -0,0 +1,29 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link JobLockRepository} on the database. Each call is one conditional UPDATE of the job's row, which the
+ * database serializes, so two instances cannot both take an expired lease.
+ */
+@Repository
+public interface JpaJobLockRepository extends JpaRepository<JobLock, String>, JobLockRepository {
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_by = :owner, " +
+            "locked_until = TIMESTAMPADD(SECOND, :leaseSeconds, CURRENT_TIMESTAMP) " +
+            "WHERE name = :name AND (locked_by = :owner OR locked_until < CURRENT_TIMESTAMP)", nativeQuery = true)
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_by = NULL, locked_until = CURRENT_TIMESTAMP " +
+            "WHERE name = :name AND locked_by = :owner", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
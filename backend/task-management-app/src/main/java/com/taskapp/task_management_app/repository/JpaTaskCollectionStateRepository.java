@@ -0,0 +1,29 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.TaskCollectionState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link TaskCollectionStateRepository} on the database. Both calls are primary key lookups of the one row.
+ */
+@Repository
+public interface JpaTaskCollectionStateRepository
+        extends JpaRepository<TaskCollectionState, Integer>, TaskCollectionStateRepository {
+
+    /**
+     * Flushes the transaction's pending writes first, so the row is the last lock the transaction takes and is only
+     * held while it commits; writers wait for each other there, not in between their other statements.
+     */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE task_collection_state SET version = version + 1, changed_at = LOCALTIMESTAMP " +
+            "WHERE id = 1", nativeQuery = true)
+    int recordChange();
+
+    @Override
+    @Query("SELECT s FROM TaskCollectionState s WHERE s.id = 1")
+    TaskCollectionState findCurrent();
+}
@@ -0,0 +1,144 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskDueDateCount;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link TaskRepository} on the database, with Spring Data deriving or running the queries below. The finders that
+ * only exist here are not part of the storage-neutral contract.
+ */
+@Repository
+public interface JpaTaskRepository extends JpaRepository<Task,Long>, TaskRepository, TaskRepositoryCustom {
+
+    // Declared by both supertypes; redeclared so that calls through this interface are not ambiguous.
+    @Override
+    <S extends Task> S save(S task);
+
+    @Override
+    <S extends Task> List<S> saveAll(Iterable<S> tasks);
+
+    @Override
+    Optional<Task> findById(Long id);
+
+    @Override
+    List<Task> findAll();
+
+    @Override
+    List<Task> findAllById(Iterable<Long> ids);
+
+    @Override
+    void delete(Task task);
+
+    @Override
+    boolean existsById(Long id);
+
+    @Override
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    List<Task> findByStatus(TaskStatus status);
+
+    List<Task> findByPriority(Priority priority);
+
+    List<Task> findByDueDateBefore(LocalDate date);
+
+    List<Task> findByStatusAndPriority(TaskStatus status, Priority priority);
+
+    List<Task> findByTitleContainingIgnoreCase(String keyword);
+
+    @Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE AND t.status != 'COMPLETED'")
+    List<Task> findOverdueTasks();
+
+    @Query("SELECT t FROM Task t WHERE t.createdAt >= :since")
+    List<Task> findTasksCreatedSince(@Param("since") LocalDateTime since);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.status IN :allowed")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("allowed") Collection<TaskStatus> allowed,
+                         @Param("status") TaskStatus status,
+                         @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, t.version = t.version + 1, t.updatedAt = :now " +
+            "WHERE t.id = :id")
+    int updatePriority(@Param("id") Long id,
+                       @Param("priority") Priority priority,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Sets the status of the given tasks in one statement. The caller holds row locks on them (see
+     * {@link TaskRepositoryCustom#lockAllById} and {@link TaskRepositoryCustom#lockMatching}), so no version check is needed.
+     */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateStatusIn(@Param("ids") Collection<Long> ids,
+                       @Param("status") TaskStatus status,
+                       @Param("now") LocalDateTime now);
+
+    /** Sets the priority of the given, locked tasks in one statement, like {@link #updateStatusIn}. */
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, t.version = t.version + 1, t.updatedAt = :now " +
+            "WHERE t.id IN :ids")
+    int updatePriorityIn(@Param("ids") Collection<Long> ids,
+                         @Param("priority") Priority priority,
+                         @Param("now") LocalDateTime now);
+
+    @Override
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS count FROM Task t " +
+            "GROUP BY t.status, t.priority")
+    List<TaskStatusPriorityCount> countByStatusAndPriority();
+
+    @Override
+    @Query("SELECT t.dueDate AS dueDate, COUNT(t) AS count FROM Task t " +
+            "WHERE t.status <> 'COMPLETED' AND t.dueDate IS NOT NULL GROUP BY t.dueDate")
+    List<TaskDueDateCount> countOpenByDueDate();
+
+    /**
+     * Ids of completed tasks last changed before {@code cutoff}, in order of that change, locked until the
+     * archiving transaction ends. Reads only the (status, updated_at) index range, which holds the id, and stops
+     * after {@code limit} rows; the archive copy and delete work on the rows by id.
+     */
+    @Override
+    @Query(value = "SELECT id FROM tasks WHERE status = 'COMPLETED' AND updated_at < :cutoff " +
+            "ORDER BY updated_at, id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Tasks changed (created or updated) at or after {@code since}, in order of that change: a range of the
+     * (updated_at, id) index, so delta sync reads only what changed.
+     */
+    @Override
+    @Query("SELECT t FROM Task t WHERE t.updatedAt >= :since ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedSince(@Param("since") LocalDateTime since, Limit limit);
+
+    /** Tasks with an id above {@code afterId}, in id order: a range of the primary key, for paging a resync. */
+    @Override
+    @Query("SELECT t FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Task> findAllAfterId(@Param("afterId") long afterId, Limit limit);
+}
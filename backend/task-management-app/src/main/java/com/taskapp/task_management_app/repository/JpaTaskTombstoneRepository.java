@@ -0,0 +1,40 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link TaskTombstoneRepository} on the database.
+ */
+@Repository
+public interface JpaTaskTombstoneRepository extends JpaRepository<TaskTombstone, Long>, TaskTombstoneRepository {
+
+    // Declared by both supertypes; redeclared so that calls through this interface are not ambiguous.
+    @Override
+    <S extends TaskTombstone> S save(S tombstone);
+
+    /** Leaves a tombstone for each of the given tasks that is still in {@code tasks}; call it before deleting them. */
+    @Override
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO task_tombstones (task_id, deleted_at) " +
+            "SELECT id, :now FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int recordFromTasks(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /** Ids of the tasks removed at or after {@code since}; a range of the deleted_at index. */
+    @Override
+    @Query("SELECT DISTINCT t.taskId FROM TaskTombstone t WHERE t.deletedAt >= :since")
+    List<Long> findTaskIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteAllByDeletedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
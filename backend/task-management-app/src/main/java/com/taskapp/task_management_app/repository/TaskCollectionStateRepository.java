@@ -0,0 +1,19 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.TaskCollectionState;
+
+/**
+ * The {@code task_collection_state} row as the services use it: a version of the whole task collection, archive and
+ * tombstones included, that list endpoints derive their ETag from. Implemented by
+ * {@link JpaTaskCollectionStateRepository} and by the standalone store.
+ */
+public interface TaskCollectionStateRepository {
+
+    /**
+     * Raises the version and sets the change time to now, in database time. Called once by every transaction that
+     * changes tasks, as its last statement before the commit.
+     */
+    int recordChange();
+
+    TaskCollectionState findCurrent();
+}
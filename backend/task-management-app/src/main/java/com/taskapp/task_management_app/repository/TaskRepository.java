@@ -3,31 +3,76 @@ package com.taskapp.task_management_app.repository;
 import com.taskapp.task_management_app.entity.Task;
 import com.taskapp.task_management_app.enums.Priority;
 import com.taskapp.task_management_app.enums.TaskStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
+import com.taskapp.task_management_app.query.TaskDueDateCount;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import org.springframework.data.domain.Limit;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-@Repository
-public interface TaskRepository extends JpaRepository<Task,Long> {
+/**
+ * The {@code tasks} table as the services use it, and nothing more. {@link JpaTaskRepository} implements it on the
+ * database and {@code StandaloneTaskRepository} on the embedded store of the {@code standalone} profile, so every
+ * method here has to mean the same on both.
+ * <p>
+ * Saving writes the id, version and timestamps back into the task. Whether a task returned by a finder is tracked
+ * depends on the storage, so a changed task is always passed to {@link #save} or {@link #saveAll}.
+ */
+public interface TaskRepository extends TaskRepositoryCustom {
 
-    List<Task> findByStatus(TaskStatus status);
+    <S extends Task> S save(S task);
 
-    List<Task> findByPriority(Priority priority);
+    <S extends Task> List<S> saveAll(Iterable<S> tasks);
 
-    List<Task> findByDueDateBefore(LocalDate date);
+    Optional<Task> findById(Long id);
 
-    List<Task> findByStatusAndPriority(TaskStatus status, Priority priority);
+    List<Task> findAll();
 
-    List<Task> findByTitleContainingIgnoreCase(String keyword);
+    /** The tasks that exist, in id order. */
+    List<Task> findAllById(Iterable<Long> ids);
 
-    @Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE AND t.status != 'COMPLETED'")
-    List<Task> findOverdueTasks();
+    void delete(Task task);
 
-    @Query("SELECT t FROM Task t WHERE t.createdAt >= :since")
-    List<Task> findTasksCreatedSince(@Param("since") LocalDateTime since);
+    boolean existsById(Long id);
+
+    /** The task's version, read without the rest of the row; empty if there is no such task. */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Moves a task to {@code status} in a single statement, but only while its current status is one of
+     * {@code allowed}. Returns the number of rows changed (0 or 1).
+     */
+    int transitionStatus(Long id, Collection<TaskStatus> allowed, TaskStatus status, LocalDateTime now);
+
+    /** Sets the priority in a single statement. Returns the number of rows changed (0 or 1). */
+    int updatePriority(Long id, Priority priority, LocalDateTime now);
+
+    /**
+     * Sets the status of the given tasks in one statement. The caller holds row locks on them (see
+     * {@link TaskRepositoryCustom#lockAllById} and {@link TaskRepositoryCustom#lockMatching}), so no version check is needed.
+     */
+    int updateStatusIn(Collection<Long> ids, TaskStatus status, LocalDateTime now);
+
+    /** Sets the priority of the given, locked tasks in one statement, like {@link #updateStatusIn}. */
+    int updatePriorityIn(Collection<Long> ids, Priority priority, LocalDateTime now);
+
+    List<TaskStatusPriorityCount> countByStatusAndPriority();
+
+    List<TaskDueDateCount> countOpenByDueDate();
+
+    /**
+     * Ids of completed tasks last changed before {@code cutoff}, in order of that change, at most {@code limit}.
+     * The rows are locked until the archiving transaction ends.
+     */
+    List<Long> findArchivableIds(LocalDateTime cutoff, int limit);
+
+    int deleteAllByIdIn(Collection<Long> ids);
+
+    /** Tasks changed (created or updated) at or after {@code since}, in order of that change. */
+    List<Task> findChangedSince(LocalDateTime since, Limit limit);
+
+    /** Tasks with an id above {@code afterId}, in id order; ids start at 1, so 0 gives the first page. */
+    List<Task> findAllAfterId(long afterId, Limit limit);
 }
@@ -0,0 +1,76 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Inserts new tasks as one JDBC batch, which MySQL's {@code rewriteBatchedStatements} sends as multi-row INSERTs,
+     * and writes the generated ids, the timestamps and version 0 back into them. Hibernate does not batch inserts
+     * into an IDENTITY column, so bulk creates use this instead of saveAll. The tasks are not managed afterwards.
+     */
+    <S extends Task> List<S> insertAll(List<S> tasks);
+
+    /**
+     * The database's current time. Timestamps that delta sync and the archive job compare with updated_at come from
+     * here rather than from the application server, whose clock may differ from the other instances'.
+     */
+    LocalDateTime currentTimestamp();
+
+    /**
+     * Keyset listing: applies the query filters, seeks past the cursor on (sort key, id)
+     * and returns at most {@code maxResults} rows in sort order.
+     */
+    List<Task> findPage(TaskPageQuery query, int maxResults);
+
+    /**
+     * Streams every task in id order with a JDBC fetch size, detaching each entity as it is read so the
+     * persistence context stays empty. Must be consumed inside a transaction and closed afterwards.
+     */
+    Stream<Task> streamAll();
+
+    /**
+     * Lists every task in id order, selecting only the columns the given response fields are computed from.
+     * The returned tasks are plain unmanaged objects with just those attributes set, so nothing is hydrated into
+     * the persistence context and unrequested columns (such as the TEXT description) are never transferred.
+     */
+    List<Task> findAllProjected(Set<TaskField> fields);
+
+    /**
+     * Locks the given tasks until the transaction ends and returns them in id order, so a bulk transition sees
+     * their final state. Only the id, status, priority and due date are read; the tasks are plain unmanaged objects.
+     */
+    List<Task> lockAllById(Collection<Long> ids);
+
+    /**
+     * Locks task {@code id} until the transaction ends and reads all of it, for a single-column UPDATE that answers
+     * with the whole task. The task is a plain unmanaged object, so changing it writes nothing.
+     */
+    Optional<Task> lockById(Long id);
+
+    /**
+     * Tasks matching the selection's filters with an id above {@code afterId} (any id when {@code null}), in id
+     * order, at most {@code maxResults} of them, locked and read like {@link #lockAllById}. Walking the ids this way
+     * visits every match once even when the caller's changes make earlier rows stop matching.
+     */
+    List<Task> lockMatching(TaskSelection filter, Long afterId, int maxResults);
+
+    /** {@link #findPage} over the archive; the returned tasks are plain unmanaged objects. */
+    List<Task> findArchivedPage(TaskPageQuery query, int maxResults);
+
+    /** {@link #streamAll} over the archive. */
+    Stream<Task> streamArchived();
+
+    /** {@link #findAllProjected} over the archive. */
+    List<Task> findArchivedProjected(Set<TaskField> fields);
+}
@@ -0,0 +1,296 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.ArchivedTask;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final int STREAM_FETCH_SIZE = 1000;
+    /** What a bulk transition reads of a task: enough to skip it, update it by id and describe its old state. */
+    private static final String[] TRANSITION_ATTRIBUTES = {"id", "status", "priority", "dueDate"};
+    private static final String INSERT = "INSERT INTO tasks " +
+            "(title, description, status, priority, due_date, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <S extends Task> List<S> insertAll(List<S> tasks) {
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+        LocalDateTime now = currentTimestamp();
+        // Runs on the transaction's connection, after anything Hibernate still has to flush.
+        entityManager.flush();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS)) {
+                for (Task task : tasks) {
+                    insert.setString(1, task.getTitle());
+                    insert.setString(2, task.getDescription());
+                    insert.setString(3, task.getStatus().name());
+                    insert.setString(4, task.getPriority().name());
+                    insert.setObject(5, task.getDueDate());
+                    insert.setObject(6, now);
+                    insert.setObject(7, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    for (Task task : tasks) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Expected " + tasks.size() + " generated task ids");
+                        }
+                        task.setId(keys.getLong(1));
+                    }
+                }
+            }
+        });
+        for (Task task : tasks) {
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setVersion(0L);
+        }
+        return tasks;
+    }
+
+    /** LOCALTIMESTAMP rather than CURRENT_TIMESTAMP, which H2 returns with a time zone. */
+    @Override
+    public LocalDateTime currentTimestamp() {
+        return entityManager.unwrap(Session.class)
+                .createNativeQuery("SELECT LOCALTIMESTAMP", LocalDateTime.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageQuery query, int maxResults) {
+        return findPage(Task.class, query, maxResults);
+    }
+
+    @Override
+    public List<Task> lockAllById(Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Task> task = cq.from(Task.class);
+        cq.where(task.get("id").in(ids));
+        return toTasks(lockForTransition(cb, cq, task).getResultList(), TRANSITION_ATTRIBUTES);
+    }
+
+    /** A query rather than find(), which could answer from the second-level cache without reading the row. */
+    @Override
+    public Optional<Task> lockById(Long id) {
+        List<Task> tasks = entityManager.createQuery("SELECT t FROM Task t WHERE t.id = :id", Task.class)
+                .setParameter("id", id)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        tasks.forEach(entityManager::detach);
+        return tasks.stream().findFirst();
+    }
+
+    @Override
+    public List<Task> lockMatching(TaskSelection filter, Long afterId, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Task> task = cq.from(Task.class);
+
+        List<Predicate> predicates = filters(cb, task, filter.getStatus(), filter.getPriority(), filter.getDueBefore());
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(task.get("id"), afterId));
+        }
+        cq.where(predicates.toArray(Predicate[]::new));
+        List<Tuple> rows = lockForTransition(cb, cq, task)
+                .setMaxResults(maxResults)
+                .getResultList();
+        return toTasks(rows, TRANSITION_ATTRIBUTES);
+    }
+
+    @Override
+    public List<Task> findArchivedPage(TaskPageQuery query, int maxResults) {
+        return findPage(ArchivedTask.class, query, maxResults).stream()
+                .map(ArchivedTask::toTask)
+                .toList();
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return stream("SELECT t FROM Task t ORDER BY t.id", Task.class);
+    }
+
+    @Override
+    public Stream<Task> streamArchived() {
+        return stream("SELECT a FROM ArchivedTask a ORDER BY a.id", ArchivedTask.class).map(ArchivedTask::toTask);
+    }
+
+    @Override
+    public List<Task> findAllProjected(Set<TaskField> fields) {
+        return findAllProjected(Task.class, fields);
+    }
+
+    @Override
+    public List<Task> findArchivedProjected(Set<TaskField> fields) {
+        return findAllProjected(ArchivedTask.class, fields);
+    }
+
+    /** Tasks and archived tasks share attribute names, so one criteria query serves both tables. */
+    private <T> List<T> findPage(Class<T> entity, TaskPageQuery query, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> cq = cb.createQuery(entity);
+        Root<T> task = cq.from(entity);
+
+        List<Predicate> predicates = filters(cb, task, query.getStatus(), query.getPriority(), query.getDueBefore());
+
+        Path<Comparable<Object>> key = task.get(query.getSort().getAttribute());
+        Path<Long> id = task.get("id");
+        if (query.getAfter() != null) {
+            predicates.add(seek(cb, key, id, query.getAfter(), query.isAscending()));
+        }
+
+        cq.where(predicates.toArray(Predicate[]::new));
+        cq.orderBy(order(cb, key, query.isAscending()), order(cb, id, query.isAscending()));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    /** Equality on status and priority and an upper bound on the due date, each only when given. */
+    private List<Predicate> filters(CriteriaBuilder cb, Root<?> task,
+                                    TaskStatus status, Priority priority, LocalDate dueBefore) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (priority != null) {
+            predicates.add(cb.equal(task.get("priority"), priority));
+        }
+        if (dueBefore != null) {
+            predicates.add(cb.lessThan(task.get("dueDate"), dueBefore));
+        }
+        return predicates;
+    }
+
+    private <T> Stream<T> stream(String jpql, Class<T> entity) {
+        return entityManager.createQuery(jpql, entity)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    /**
+     * Selects the {@link #TRANSITION_ATTRIBUTES} of the rows {@code cq} matches, in id order, with
+     * {@code FOR UPDATE}. The lock covers the whole row either way, but the description and the rest are neither
+     * transferred nor hydrated into the persistence context.
+     */
+    private TypedQuery<Tuple> lockForTransition(CriteriaBuilder cb, CriteriaQuery<Tuple> cq, Root<Task> task) {
+        cq.multiselect(Arrays.stream(TRANSITION_ATTRIBUTES).<Selection<?>>map(task::get).toList());
+        cq.orderBy(cb.asc(task.get("id")));
+        return entityManager.createQuery(cq).setLockMode(LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    private List<Task> findAllProjected(Class<?> entity, Set<TaskField> fields) {
+        Set<String> attributes = new LinkedHashSet<>();
+        attributes.add("id");
+        for (TaskField field : fields) {
+            attributes.addAll(field.getAttributes());
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<?> task = cq.from(entity);
+        String[] selected = attributes.toArray(String[]::new);
+        cq.multiselect(Arrays.stream(selected).<Selection<?>>map(task::get).toList());
+        cq.orderBy(cb.asc(task.get("id")));
+
+        return toTasks(entityManager.createQuery(cq).getResultList(), selected);
+    }
+
+    /** Plain tasks with just the {@code selected} attributes set, from tuples holding them in that order. */
+    private List<Task> toTasks(List<Tuple> rows, String[] selected) {
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Task projected = new Task();
+            for (int i = 0; i < selected.length; i++) {
+                setAttribute(projected, selected[i], row.get(i));
+            }
+            tasks.add(projected);
+        }
+        return tasks;
+    }
+
+    private void setAttribute(Task task, String attribute, Object value) {
+        switch (attribute) {
+            case "id" -> task.setId((Long) value);
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "status" -> task.setStatus((TaskStatus) value);
+            case "priority" -> task.setPriority((Priority) value);
+            case "dueDate" -> task.setDueDate((LocalDate) value);
+            case "createdAt" -> task.setCreatedAt((LocalDateTime) value);
+            case "updatedAt" -> task.setUpdatedAt((LocalDateTime) value);
+            default -> throw new IllegalStateException("Unmapped task attribute: " + attribute);
+        }
+    }
+
+    /**
+     * Rows strictly after the cursor in (key, id) order. NULL sorts lowest on MySQL, so nullable keys
+     * (due date) come first in ascending order and last in descending order.
+     * <p>
+     * The redundant {@code key >= value} / {@code key <= value} bound lets the optimizer turn the seek into a
+     * single index range instead of evaluating the OR for every row.
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate seek(CriteriaBuilder cb, Path<Comparable<Object>> key, Path<Long> id,
+                           TaskCursor cursor, boolean ascending) {
+        Comparable<Object> value = (Comparable<Object>) cursor.getValue();
+        boolean nullable = cursor.getSort().isNullable();
+        Predicate idAfter = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+        if (value == null) {
+            Predicate sameKey = cb.and(cb.isNull(key), idAfter);
+            return ascending ? cb.or(sameKey, cb.isNotNull(key)) : sameKey;
+        }
+
+        Predicate bound = ascending ? cb.greaterThanOrEqualTo(key, value) : cb.lessThanOrEqualTo(key, value);
+        Predicate keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate afterCursor = cb.and(bound, cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter)));
+        return !ascending && nullable ? cb.or(afterCursor, cb.isNull(key)) : afterCursor;
+    }
+
+    private Order order(CriteriaBuilder cb, Path<?> path, boolean ascending) {
+        return ascending ? cb.asc(path) : cb.desc(path);
+    }
+}
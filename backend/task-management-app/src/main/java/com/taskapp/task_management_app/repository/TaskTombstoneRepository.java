@@ -0,0 +1,24 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.TaskTombstone;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The {@code task_tombstones} table as the services use it: which tasks left the task table (deleted or archived)
+ * and when. Implemented by {@link JpaTaskTombstoneRepository} and by the standalone store.
+ */
+public interface TaskTombstoneRepository {
+
+    <S extends TaskTombstone> S save(S tombstone);
+
+    /** Leaves a tombstone for each of the given tasks that is still in {@code tasks}; call it before deleting them. */
+    int recordFromTasks(Collection<Long> ids, LocalDateTime now);
+
+    /** Ids of the tasks removed at or after {@code since}. */
+    List<Long> findTaskIdsDeletedSince(LocalDateTime since);
+
+    int deleteAllByDeletedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,224 @@
+package com.taskapp.task_management_app.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * <p>
+ * Text is lower-cased and split on anything that is not a letter or digit. Every query token must match, either
+ * exactly or as the prefix of an indexed term (tokens of {@value #MIN_PREFIX_LENGTH}+ characters). Documents are
+ * ranked by a TF-IDF score in which title occurrences weigh {@value #TITLE_WEIGHT} times a description occurrence
+ * and prefix matches count {@value #PREFIX_FACTOR} of an exact match. Archived tasks are indexed too, flagged so
+ * that searches can leave them out.
+ * <p>
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public class TaskSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    /** term -> (task id -> weighted term frequency); sorted so prefix lookups are a range scan. */
+    private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByTask = new HashMap<>();
+    private final Set<Long> archived = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(long taskId, String title, String description) {
+        index(taskId, title, description, false);
+    }
+
+    public void index(long taskId, String title, String description, boolean archivedTask) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : tokenize(title)) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            weights.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, weight));
+            termsByTask.put(taskId, Set.copyOf(weights.keySet()));
+            if (archivedTask) {
+                archived.add(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Flags an indexed task as moved into the archive, keeping its terms. */
+    public void archive(long taskId) {
+        lock.writeLock().lock();
+        try {
+            if (termsByTask.containsKey(taskId)) {
+                archived.add(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Clears the archived flag of a task that moved back into the task table, keeping its terms. */
+    public void unarchive(long taskId) {
+        lock.writeLock().lock();
+        try {
+            archived.remove(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TaskSearchResult search(String query, int offset, int limit, boolean includeArchived) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return new TaskSearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String token : tokens) {
+                Map<Long, Double> tokenScores = scoreToken(token);
+                scores = scores == null ? tokenScores : intersect(scores, tokenScores);
+                if (scores.isEmpty()) {
+                    return new TaskSearchResult(List.of(), 0);
+                }
+            }
+            if (!includeArchived && !archived.isEmpty()) {
+                scores.keySet().removeIf(archived::contains);
+            }
+            return new TaskSearchResult(topIds(scores, offset, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Best score of each task for one query token; a task matching several expansions of a prefix keeps its best.
+     */
+    private Map<Long, Double> scoreToken(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        Map<String, Map<Long, Integer>> matches = token.length() < MIN_PREFIX_LENGTH
+                ? exact(token)
+                : postings.subMap(token, true, token + Character.MAX_VALUE, true);
+
+        int documentCount = termsByTask.size();
+        matches.forEach((term, docs) -> {
+            double idf = Math.log(1.0 + (double) documentCount / docs.size());
+            double factor = term.equals(token) ? 1.0 : PREFIX_FACTOR;
+            docs.forEach((taskId, weight) -> {
+                double score = factor * idf * (1.0 + Math.log(weight));
+                scores.merge(taskId, score, Math::max);
+            });
+        });
+        return scores;
+    }
+
+    private Map<String, Map<Long, Integer>> exact(String token) {
+        Map<Long, Integer> docs = postings.get(token);
+        return docs == null ? Map.of() : Map.of(token, docs);
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> left, Map<Long, Double> right) {
+        Map<Long, Double> result = new HashMap<>();
+        left.forEach((taskId, score) -> {
+            Double other = right.get(taskId);
+            if (other != null) {
+                result.put(taskId, score + other);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Selects one page of ids by descending score (newest id first on ties) with a bounded heap instead of
+     * sorting every match.
+     */
+    private static List<Long> topIds(Map<Long, Double> scores, int offset, int limit) {
+        int wanted = offset + limit;
+        if (limit <= 0 || offset >= scores.size()) {
+            return List.of();
+        }
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(wanted + 1, ranking);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > wanted) {
+                heap.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids.subList(Math.min(offset, ids.size()), ids.size());
+    }
+
+    private void removeLocked(long taskId) {
+        archived.remove(taskId);
+        Set<String> terms = termsByTask.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(taskId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskapp.task_management_app.search;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class TaskSearchResult {
+    /** Ids of the requested page, best match first. */
+    List<Long> taskIds;
+    /** Number of tasks matching the query across all pages. */
+    int total;
+}
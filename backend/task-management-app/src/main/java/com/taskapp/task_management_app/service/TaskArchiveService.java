@@ -0,0 +1,9 @@
+package com.taskapp.task_management_app.service;
+
+public interface TaskArchiveService {
+    /**
+     * Moves every task completed longer than {@code task.archive.min-age} ago into the archive, in chunks of
+     * {@code task.archive.chunk-size} with a transaction each, and returns the number of tasks archived.
+     */
+    int archiveCompletedTasks();
+}
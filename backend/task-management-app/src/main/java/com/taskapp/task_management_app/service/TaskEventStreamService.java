@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskEventStreamService {
+
+    /**
+     * Opens a server-sent event stream of committed task changes. Bursts of changes to the same task are
+     * coalesced into its latest state, so clients should treat {@code created} and {@code updated} as upserts.
+     * <p>
+     * With a {@code lastEventId} the stream first replays the changes the client missed. When they are no longer
+     * buffered, or the client falls too far behind, a {@code resync} event tells it to reload the full list.
+     */
+    SseEmitter subscribe(String lastEventId);
+}
@@ -0,0 +1,14 @@
+package com.taskapp.task_management_app.service;
+
+import com.taskapp.task_management_app.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    /**
+     * Writes every task to {@code out} row by row, followed by the archived tasks if asked for, and returns the
+     * number of rows written.
+     */
+    long exportTasks(ExportFormat format, boolean includeArchived, OutputStream out) throws IOException;
+}
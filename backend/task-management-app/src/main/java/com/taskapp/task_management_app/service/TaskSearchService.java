@@ -0,0 +1,15 @@
+package com.taskapp.task_management_app.service;
+
+import com.taskapp.task_management_app.query.TaskSearchPage;
+
+public interface TaskSearchService {
+    /**
+     * Ranked search over every task; archived tasks are only included when asked for.
+     */
+    TaskSearchPage search(String query, int page, int size, boolean includeArchived);
+
+    /**
+     * Rebuilds the index from the database, archive included, and returns the number of indexed tasks.
+     */
+    int rebuildIndex();
+}
@@ -2,27 +2,81 @@ package com.taskapp.task_management_app.service;
 
 import com.taskapp.task_management_app.entity.Task;
 import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
 import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskTransitionResult;
 
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Task reads and writes. Writes to an archived task first move it back into the task table.
+ */
 public interface TaskService {
     Task createTask(Task task);
 
+    List<Task> createTasks(List<Task> tasks);
+
+    /**
+     * Finds the task in the task table or, once archived, in the archive.
+     */
     Task getTaskById(Long id);
 
     List<Task> getAllTasks();
 
+    /**
+     * Lists every task, in id order and with archived tasks if asked for, with only the attributes needed for the
+     * given response fields; the returned tasks are read-only views, not managed entities.
+     */
+    List<Task> getAllTasks(Set<TaskField> fields, boolean includeArchived);
+
+    TaskPage getTaskPage(TaskPageQuery query);
+
     Task updateTask(Long id, Task updatedTask);
 
+    /**
+     * Updates the task only if it is still at {@code expectedVersion}, otherwise throws
+     * TaskPreconditionFailedException. A {@code null} version matches any.
+     */
+    Task updateTask(Long id, Task updatedTask, Long expectedVersion);
+
+    /**
+     * Applies each change to the task with the same id and returns the tasks that were found.
+     * Ids that do not exist are skipped.
+     */
+    List<Task> updateTasks(List<Task> updatedTasks);
+
     void deleteTask(Long id);
 
+    /** Like {@link #updateTaskStatus(Long, TaskStatus)}. */
     Task markTaskAsCompleted(Long id);
 
+    /** Like {@link #updateTaskStatus(Long, TaskStatus)}. */
     Task markTaskAsInProgress(Long id);
 
+    /** Sets the status and returns the whole task as written. */
     Task updateTaskStatus(Long id, TaskStatus status);
 
+    /**
+     * Locks the task, reading the state it replaces, and sets the status with a single conditional UPDATE. When
+     * {@code expectedStatus} is given the change only applies if the task is still in that status, otherwise a
+     * TaskConflictException is thrown.
+     */
+    Task updateTaskStatus(Long id, TaskStatus status, TaskStatus expectedStatus);
+
+    /** Sets the priority with a single UPDATE, like {@link #updateTaskStatus(Long, TaskStatus, TaskStatus)}. */
     Task updateTaskPriority(Long id, Priority priority);
 
+    /**
+     * Sets the status of every selected task in one transaction, with one UPDATE statement per chunk of tasks
+     * instead of one per task. Tasks already in that status are left unchanged.
+     */
+    TaskTransitionResult transitionStatus(TaskSelection selection, TaskStatus status);
+
+    /** Sets the priority of every selected task, like {@link #transitionStatus}. */
+    TaskTransitionResult transitionPriority(TaskSelection selection, Priority priority);
+
 }
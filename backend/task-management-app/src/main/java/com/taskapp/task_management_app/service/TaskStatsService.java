@@ -0,0 +1,16 @@
+package com.taskapp.task_management_app.service;
+
+import com.taskapp.task_management_app.stats.TaskStats;
+
+public interface TaskStatsService {
+
+    /**
+     * Current task counts, served from memory.
+     */
+    TaskStats getStats();
+
+    /**
+     * Recomputes the counts from the database, correcting any drift from the incremental updates.
+     */
+    void resync();
+}
@@ -0,0 +1,18 @@
+package com.taskapp.task_management_app.service;
+
+import com.taskapp.task_management_app.query.TaskChanges;
+import com.taskapp.task_management_app.query.TaskSyncToken;
+
+public interface TaskSyncService {
+
+    /**
+     * Tasks created or updated and ids of tasks deleted or archived since the token. Without a token, or when the
+     * token is older than the tombstones are kept or too much has changed since, every task, flagged as a resync.
+     */
+    TaskChanges getChanges(TaskSyncToken since);
+
+    /**
+     * Drops tombstones older than {@code task.changes.tombstone-retention}; tokens from before that get a resync.
+     */
+    int purgeTombstones();
+}
@@ -0,0 +1,147 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
+import com.taskapp.task_management_app.repository.JobLockRepository;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.repository.TaskTombstoneRepository;
+import com.taskapp.task_management_app.service.TaskArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the task table down to current work by moving completed tasks into {@code tasks_archive} once they have
+ * not changed for {@code task.archive.min-age}.
+ * <p>
+ * Each chunk is its own short transaction: lock the ids of the next {@code chunk-size} archivable rows, copy them
+ * to the archive, delete them. Row locks are held for one chunk only, and the job pauses for {@code chunk-pause}
+ * between chunks so user writes and replication keep up.
+ * <p>
+ * One instance at a time runs the job: a run first takes the job's lease in {@code job_locks}, extends it before
+ * every chunk, and gives it up at the end. Instances that find the lease held skip their run. A run that dies
+ * leaves the lease to expire after {@code task.archive.lease}, which has to outlast one chunk.
+ */
+@Service
+@Slf4j
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+    static final String JOB_NAME = "task-archive";
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final JobLockRepository jobLockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration lease;
+    /** Names this instance as the lease owner; unique per start, so a restart does not inherit a dead run's lease. */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public TaskArchiveServiceImpl(TaskRepository taskRepository,
+                                  ArchivedTaskRepository archivedTaskRepository,
+                                  TaskTombstoneRepository tombstoneRepository,
+                                  JobLockRepository jobLockRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${task.archive.enabled:true}") boolean enabled,
+                                  @Value("${task.archive.min-age:P30D}") Duration minAge,
+                                  @Value("${task.archive.chunk-size:500}") int chunkSize,
+                                  @Value("${task.archive.chunk-pause:PT0.1S}") Duration chunkPause,
+                                  @Value("${task.archive.lease:PT5M}") Duration lease) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("task.archive.chunk-size must be at least 1");
+        }
+        if (lease.toSeconds() < 1) {
+            throw new IllegalArgumentException("task.archive.lease must be at least 1s");
+        }
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.chunkPause = chunkPause;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${task.archive.interval:PT1H}",
+            initialDelayString = "${task.archive.interval:PT1H}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archiveCompletedTasks();
+        }
+    }
+
+    @Override
+    public int archiveCompletedTasks() {
+        if (!holdLease()) {
+            log.debug("Skipping task archiving, another instance is running it");
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        // One cutoff for the whole run, so tasks completed while it runs wait for the next one.
+        LocalDateTime cutoff = taskRepository.currentTimestamp().minus(minAge);
+        int total = 0;
+        int archived;
+        try {
+            do {
+                archived = transaction.execute(status -> archiveChunk(cutoff));
+                total += archived;
+            } while (archived == chunkSize && pause() && holdLease());
+        } finally {
+            transaction.executeWithoutResult(status -> jobLockRepository.release(JOB_NAME, instanceId));
+        }
+
+        if (total > 0) {
+            log.info("Archived {} tasks completed before {} in {} ms", total, cutoff,
+                    System.currentTimeMillis() - start);
+        }
+        return total;
+    }
+
+    /** Takes the job's lease, or extends it if this instance holds it; false if another instance holds it. */
+    private boolean holdLease() {
+        return transaction.execute(status -> jobLockRepository.acquire(JOB_NAME, instanceId, lease.toSeconds())) > 0;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findArchivableIds(cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = taskRepository.currentTimestamp();
+        archivedTaskRepository.copyFromTasks(ids, now);
+        // Archived tasks leave the default list, so delta sync clients drop them like deleted ones.
+        tombstoneRepository.recordFromTasks(ids, now);
+        taskRepository.deleteAllByIdIn(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.archived(id)));
+        return ids.size();
+    }
+
+    /** Returns false if interrupted, which ends the run; the rest is archived next time. */
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPause.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskapp.task_management_app.dto.TaskChangeDTO;
+import com.taskapp.task_management_app.dto.TaskView;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.service.TaskEventStreamService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed task changes out to server-sent event subscribers.
+ * <p>
+ * Each change is serialized once, numbered and kept in a bounded replay buffer. Every subscriber has its own
+ * pending map keyed by task id (and, for status and priority changes, the fields they carry), so a burst of changes
+ * to one task collapses into its latest state. A short coalescing window later, a sender thread writes the pending
+ * changes to the client. Writers never wait on slow clients. A subscriber whose pending map outgrows
+ * {@code task.events.max-pending} is told to resync instead.
+ * <p>
+ * The sender threads are this service's own: {@code task.events.sender-threads} of them, with at most
+ * {@code task.events.sender-queue-capacity} sends waiting. Slow clients therefore hold up other subscribers, never
+ * the rest of the application's async work. A subscriber whose send cannot be queued is dropped; it reconnects with
+ * its Last-Event-ID and is replayed what it missed.
+ * <p>
+ * Event ids are {@code <instance>-<sequence>}, so a Last-Event-ID from an earlier server run asks for a resync
+ * rather than replaying the wrong changes.
+ */
+@Service
+@Slf4j
+public class TaskEventStreamServiceImpl implements TaskEventStreamService {
+    static final String RESYNC_EVENT = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final int maxPending;
+    private final Duration coalesceWindow;
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final ThreadPoolTaskExecutor senders;
+    private final TaskScheduler taskScheduler;
+    private final ScheduledFuture<?> heartbeats;
+
+    /** Guards the sequence, the replay buffer and subscriber registration so changes fan out in order. */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<StreamedChange> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile long sequence;
+
+    public TaskEventStreamServiceImpl(ObjectMapper objectMapper,
+                                      TaskScheduler taskScheduler,
+                                      @Value("${task.events.replay-size:1000}") int replaySize,
+                                      @Value("${task.events.max-pending:1000}") int maxPending,
+                                      @Value("${task.events.coalesce-window:PT0.1S}") Duration coalesceWindow,
+                                      @Value("${task.events.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                      @Value("${task.events.sender-threads:4}") int senderThreads,
+                                      @Value("${task.events.sender-queue-capacity:10000}") int senderQueueCapacity) {
+        this.objectMapper = objectMapper;
+        this.replaySize = replaySize;
+        this.maxPending = maxPending;
+        this.coalesceWindow = coalesceWindow;
+        this.senders = new ThreadPoolTaskExecutor();
+        this.senders.setThreadNamePrefix("task-events-");
+        this.senders.setCorePoolSize(senderThreads);
+        this.senders.setMaxPoolSize(senderThreads);
+        this.senders.setQueueCapacity(senderQueueCapacity);
+        this.senders.initialize();
+        this.taskScheduler = taskScheduler;
+        this.heartbeats = taskScheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                Instant.now().plus(heartbeatInterval), heartbeatInterval);
+    }
+
+    @Override
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        boolean drain = false;
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                long after = parseSequence(lastEventId);
+                if (canReplayAfter(after)) {
+                    for (StreamedChange change : replay) {
+                        if (change.sequence() > after) {
+                            drain |= subscriber.enqueue(change);
+                        }
+                    }
+                } else {
+                    drain = subscriber.requireResync();
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        if (drain) {
+            subscriber.scheduleDrainNow();
+        }
+        log.debug("Task event subscriber added, {} connected", subscribers.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(new TaskChangeDTO(event.getType(), event.getTaskId(),
+                    event.getTask() == null ? null : new TaskView(event.getTask(), event.getFields())));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize change of task {}", event.getTaskId(), e);
+            return;
+        }
+
+        List<Subscriber> toDrain = new ArrayList<>();
+        lock.lock();
+        try {
+            StreamedChange change = new StreamedChange(sequence + 1, new PendingKey(event.getTaskId(),
+                    event.getFields()), event.getType().name().toLowerCase(), data);
+            sequence = change.sequence();
+            replay.addLast(change);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.enqueue(change)) {
+                    toDrain.add(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!toDrain.isEmpty()) {
+            // The scheduler only hands off; the writes themselves may block on slow clients.
+            taskScheduler.schedule(() -> toDrain.forEach(Subscriber::scheduleDrainNow),
+                    Instant.now().plus(coalesceWindow));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.cancel(false);
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    /** Whether every change after {@code after} is still in the replay buffer. Call with the lock held. */
+    private boolean canReplayAfter(long after) {
+        if (after < 0 || after > sequence) {
+            return false;
+        }
+        return replay.isEmpty() ? after == sequence : after >= replay.peekFirst().sequence() - 1;
+    }
+
+    /** The sequence of an event id issued by this instance, or -1 for anything else. */
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !instanceId.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return instanceId + "-" + sequence;
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                senders.execute(() -> subscriber.send(SseEmitter.event().comment("heartbeat")));
+            } catch (TaskRejectedException e) {
+                // The queue is full of sends already, which keep the connection alive just as well.
+                return;
+            }
+        }
+    }
+
+    private record StreamedChange(long sequence, PendingKey key, String name, String data) {
+    }
+
+    /**
+     * What a pending change supersedes: earlier changes to the same task with the same fields. A status change
+     * does not replace a pending full update of its task, since it only carries the status.
+     */
+    private record PendingKey(Long taskId, Set<TaskField> fields) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ReentrantLock pendingLock = new ReentrantLock();
+        /** Latest unsent change per task and set of fields, in sequence order. */
+        private final Map<PendingKey, StreamedChange> pending = new LinkedHashMap<>();
+        private boolean resyncRequired;
+        private boolean drainScheduled;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /** Queues a change and returns whether the caller has to schedule a drain. */
+        private boolean enqueue(StreamedChange change) {
+            pendingLock.lock();
+            try {
+                if (!resyncRequired) {
+                    pending.remove(change.key());
+                    pending.put(change.key(), change);
+                    if (pending.size() > maxPending) {
+                        pending.clear();
+                        resyncRequired = true;
+                    }
+                }
+                return scheduleDrain();
+            } finally {
+                pendingLock.unlock();
+            }
+        }
+
+        private boolean requireResync() {
+            pendingLock.lock();
+            try {
+                pending.clear();
+                resyncRequired = true;
+                return scheduleDrain();
+            } finally {
+                pendingLock.unlock();
+            }
+        }
+
+        private boolean scheduleDrain() {
+            if (drainScheduled) {
+                return false;
+            }
+            drainScheduled = true;
+            return true;
+        }
+
+        /** Hands the scheduled drain to a sender thread, or drops the subscriber if none can take it. */
+        private void scheduleDrainNow() {
+            try {
+                senders.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                log.debug("Dropping task event subscriber: sender queue is full");
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+
+        /**
+         * Sends everything pending, looping until nothing is left. Only one drain runs per subscriber at a time,
+         * which keeps its events in sequence order.
+         */
+        private void drain() {
+            while (true) {
+                List<StreamedChange> batch;
+                boolean resync;
+                pendingLock.lock();
+                try {
+                    if (pending.isEmpty() && !resyncRequired) {
+                        drainScheduled = false;
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                    resync = resyncRequired;
+                    resyncRequired = false;
+                } finally {
+                    pendingLock.unlock();
+                }
+
+                // On a resync the dropped changes are replaced by the client reloading the full list.
+                if (resync && !send(SseEmitter.event().id(eventId(sequence)).name(RESYNC_EVENT)
+                        .data("{}", MediaType.APPLICATION_JSON))) {
+                    return;
+                }
+                for (StreamedChange change : batch) {
+                    if (!send(SseEmitter.event().id(eventId(change.sequence())).name(change.name())
+                            .data(change.data(), MediaType.APPLICATION_JSON))) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping task event subscriber: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
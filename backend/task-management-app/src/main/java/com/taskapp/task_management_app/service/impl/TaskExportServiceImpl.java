@@ -0,0 +1,118 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.ExportFormat;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.service.TaskExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskExportServiceImpl implements TaskExportService {
+    /** Rows written between explicit flushes, so the client starts receiving data right away. */
+    private static final int FLUSH_EVERY = 256;
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long exportTasks(ExportFormat format, boolean includeArchived, OutputStream out) throws IOException {
+        log.info("Exporting all tasks as {} (includeArchived={})", format, includeArchived);
+
+        long rows;
+        // Both cursors are open at once; with useCursorFetch each is a separate server-side cursor.
+        try (Stream<Task> tasks = includeArchived
+                ? Stream.concat(taskRepository.streamAll(), taskRepository.streamArchived())
+                : taskRepository.streamAll()) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), out);
+                case CSV -> writeCsv(tasks.iterator(), out);
+            };
+        }
+
+        log.info("Exported {} tasks as {}", rows, format);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Task> tasks, OutputStream out) throws IOException {
+        long rows = 0;
+        try (SequenceWriter writer = objectMapper.writerFor(Task.class)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (tasks.hasNext()) {
+                writer.write(tasks.next());
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            if (rows > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Task> tasks, OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        writer.flush();
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writeCsvField(writer, task.getTitle());
+            writer.write(',');
+            writeCsvField(writer, task.getDescription());
+            writer.write(',');
+            writeCsvField(writer, task.getStatus());
+            writer.write(',');
+            writeCsvField(writer, task.getPriority());
+            writer.write(',');
+            writeCsvField(writer, task.getDueDate());
+            writer.write(',');
+            writeCsvField(writer, task.getCreatedAt());
+            writer.write(',');
+            writeCsvField(writer, task.getUpdatedAt());
+            writer.write('\n');
+            if (++rows % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,171 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.query.TaskSearchPage;
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.search.TaskSearchIndex;
+import com.taskapp.task_management_app.search.TaskSearchResult;
+import com.taskapp.task_management_app.service.TaskSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over task titles and descriptions, served from a {@link TaskSearchIndex} that follows
+ * committed task changes and can be rebuilt from the database at any time. Archived tasks stay in the index,
+ * flagged, and are hydrated from the archive.
+ */
+@Service
+@Slf4j
+public class TaskSearchServiceImpl implements TaskSearchService {
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+
+    private volatile TaskSearchIndex index = new TaskSearchIndex();
+    /** Serializes rebuilds. */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    /**
+     * Guards applying events to the index and swapping it, so no event falls between the replay and the swap.
+     * Held only briefly.
+     */
+    private final ReentrantLock eventLock = new ReentrantLock();
+    /** While a rebuild runs, the events that arrived since it started, in order; {@code null} otherwise. */
+    private List<TaskChangedEvent> eventsDuringRebuild;
+
+    public TaskSearchServiceImpl(TaskRepository taskRepository,
+                                 ArchivedTaskRepository archivedTaskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${task.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public TaskSearchPage search(String query, int page, int size, boolean includeArchived) {
+        log.debug("Searching tasks for: {}", query);
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TaskSearchResult result = index.search(query, page * size, size, includeArchived);
+        Map<Long, Task> tasksById = taskRepository.findAllById(result.getTaskIds()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        if (includeArchived && tasksById.size() < result.getTaskIds().size()) {
+            List<Long> missingIds = result.getTaskIds().stream().filter(id -> !tasksById.containsKey(id)).toList();
+            archivedTaskRepository.findAllById(missingIds)
+                    .forEach(archivedTask -> tasksById.put(archivedTask.getId(), archivedTask.toTask()));
+        }
+        List<Task> tasks = result.getTaskIds().stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new TaskSearchPage(tasks, result.getTotal(), page, size);
+    }
+
+    @Override
+    public int rebuildIndex() {
+        log.info("Rebuilding task search index");
+        long start = System.currentTimeMillis();
+
+        TaskSearchIndex fresh = new TaskSearchIndex();
+        rebuildLock.lock();
+        try {
+            queueEvents(new ArrayList<>());
+            // Read from the primary: a replica may be missing changes whose events have already been applied.
+            // A row read here may be older than an event that arrives meanwhile; the replay below fixes it up.
+            ReplicaRouting.onPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = taskRepository.streamAll()) {
+                    tasks.forEach(task -> fresh.index(task.getId(), task.getTitle(), task.getDescription()));
+                }
+                try (Stream<Task> tasks = taskRepository.streamArchived()) {
+                    tasks.forEach(task -> fresh.index(task.getId(), task.getTitle(), task.getDescription(), true));
+                }
+            }));
+            eventLock.lock();
+            try {
+                eventsDuringRebuild.forEach(event -> apply(fresh, event));
+                index = fresh;
+            } finally {
+                eventLock.unlock();
+            }
+        } finally {
+            queueEvents(null);
+            rebuildLock.unlock();
+        }
+
+        log.info("Task search index rebuilt with {} tasks in {} ms", fresh.size(), System.currentTimeMillis() - start);
+        return fresh.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuildIndex();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        eventLock.lock();
+        try {
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+            apply(index, event);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    private void queueEvents(List<TaskChangedEvent> queue) {
+        eventLock.lock();
+        try {
+            eventsDuringRebuild = queue;
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    private void apply(TaskSearchIndex target, TaskChangedEvent event) {
+        switch (event.getType()) {
+            // A status or priority change leaves the text alone, but may have moved the task out of the archive.
+            case UPDATED -> {
+                if (event.isPartial()) {
+                    target.unarchive(event.getTaskId());
+                } else {
+                    target.index(event.getTaskId(), event.getTask().getTitle(), event.getTask().getDescription());
+                }
+            }
+            case CREATED -> target.index(event.getTaskId(), event.getTask().getTitle(),
+                    event.getTask().getDescription());
+            case ARCHIVED -> target.archive(event.getTaskId());
+            case DELETED -> target.remove(event.getTaskId());
+        }
+    }
+}
@@ -1,45 +1,108 @@
 package com.taskapp.task_management_app.service.impl;
 
+import com.taskapp.task_management_app.cache.TaskCache;
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.entity.ArchivedTask;
 import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.entity.TaskTombstone;
 import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
 import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.event.TaskSnapshot;
+import com.taskapp.task_management_app.exception.TaskConflictException;
 import com.taskapp.task_management_app.exception.TaskNotFoundException;
+import com.taskapp.task_management_app.exception.TaskPreconditionFailedException;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskTransitionResult;
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
 import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.repository.TaskTombstoneRepository;
 import com.taskapp.task_management_app.service.TaskService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class TaskServiceImpl implements TaskService {
+    static final int MAX_BULK_SIZE = 5000;
+    /**
+     * Tasks one bulk transition may lock, listed by id or matched by a filter. It bounds how long the transaction
+     * holds its row locks, and so how far its commit can trail the updatedAt it writes.
+     */
+    static final int MAX_TRANSITION_TASKS = 10_000;
+    /** Tasks locked and updated per statement pair in a bulk transition, which also bounds the IN lists. */
+    static final int TRANSITION_CHUNK_SIZE = 1000;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
     @Override
     public Task createTask(Task task) {
-        log.info("Creating new task with title: {}", task.getTitle());
+        log.debug("Creating new task with title: {}", task.getTitle());
 
-        if (task.getStatus() == null) {
-            task.setStatus(TaskStatus.TODO);
-        }
-        if (task.getPriority() == null) {
-            task.setPriority(Priority.MEDIUM);
-        }
+        applyDefaults(task);
 
         Task savedTask = taskRepository.save(task);
-        log.info("Task created successfully with ID: {}", savedTask.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        log.debug("Task created successfully with ID: {}", savedTask.getId());
         return savedTask;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public List<Task> createTasks(List<Task> tasks) {
+        log.debug("Creating {} tasks in bulk", tasks.size());
+        checkBulkSize(tasks.size());
+
+        tasks.forEach(this::applyDefaults);
+
+        List<Task> savedTasks = taskRepository.insertAll(tasks);
+        savedTasks.forEach(savedTask -> eventPublisher.publishEvent(TaskChangedEvent.created(savedTask)));
+        log.debug("Bulk created {} tasks", savedTasks.size());
+        return savedTasks;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Task getTaskById(Long id) {
         log.debug("Fetching task with ID: {}", id);
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+        // No transaction of its own: a cache hit only holds a connection for the version check. Both reads go to the
+        // primary, which has every committed write, so a cached copy is never older than what a replica would say.
+        // The archive is only read for ids that are not in the task table.
+        return taskCache.get(id,
+                () -> ReplicaRouting.onPrimary(() -> taskRepository.findVersionById(id)
+                        .or(() -> archivedTaskRepository.findVersionById(id))
+                        .orElse(null)),
+                () -> ReplicaRouting.onPrimary(() -> taskRepository.findById(id)
+                                .or(() -> archivedTaskRepository.findById(id).map(ArchivedTask::toTask)))
+                        .orElseThrow(() -> new TaskNotFoundException(id)));
     }
 
     @Override
@@ -50,71 +113,372 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public Task updateTask(Long id, Task updatedTask) {
-        log.info("Updating task with ID: {}", id);
+    @Transactional(readOnly = true)
+    public List<Task> getAllTasks(Set<TaskField> fields, boolean includeArchived) {
+        log.debug("Fetching all tasks with fields {} (includeArchived={})", fields, includeArchived);
+        List<Task> tasks = taskRepository.findAllProjected(fields);
+        if (!includeArchived) {
+            return tasks;
+        }
+        List<Task> archived = taskRepository.findArchivedProjected(fields);
+        return merge(tasks, archived, Comparator.comparing(Task::getId), tasks.size() + archived.size());
+    }
 
-        Task existingTask = getTaskById(id);
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTaskPage(TaskPageQuery query) {
+        log.debug("Fetching task page: {}", query);
 
-        if (updatedTask.getTitle() != null) {
-            existingTask.setTitle(updatedTask.getTitle());
-        }
-        if (updatedTask.getDescription() != null) {
-            existingTask.setDescription(updatedTask.getDescription());
+        int limit = query.getLimit();
+        if (limit < 1 || limit > TaskPageQuery.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + TaskPageQuery.MAX_LIMIT);
         }
-        if (updatedTask.getStatus() != null) {
-            existingTask.setStatus(updatedTask.getStatus());
+
+        // One extra row tells us whether another page exists without a COUNT query. With the archive, each table
+        // yields its first limit + 1 rows past the cursor and the page is the first limit + 1 of both.
+        List<Task> rows = taskRepository.findPage(query, limit + 1);
+        if (query.isIncludeArchived()) {
+            rows = merge(rows, taskRepository.findArchivedPage(query, limit + 1), query.rowOrder(), limit + 1);
         }
-        if (updatedTask.getPriority() != null) {
-            existingTask.setPriority(updatedTask.getPriority());
+        if (rows.size() <= limit) {
+            return new TaskPage(rows, null);
         }
-        if (updatedTask.getDueDate() != null) {
-            existingTask.setDueDate(updatedTask.getDueDate());
+
+        List<Task> tasks = rows.subList(0, limit);
+        Task last = tasks.get(limit - 1);
+        return new TaskPage(tasks, TaskCursor.after(query.getSort(), query.getDirection(), last));
+    }
+
+    @Override
+    public Task updateTask(Long id, Task updatedTask) {
+        return updateTask(id, updatedTask, null);
+    }
+
+    @Override
+    public Task updateTask(Long id, Task updatedTask, Long expectedVersion) {
+        log.debug("Updating task with ID: {}", id);
+
+        Task existingTask = findTaskForWrite(id);
+        // @Version still catches a concurrent update between this check and the flush.
+        if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+            throw new TaskPreconditionFailedException("Task " + id + " has changed since version " + expectedVersion);
         }
+        TaskSnapshot previous = TaskSnapshot.of(existingTask);
+        applyChanges(existingTask, updatedTask);
 
         Task savedTask = taskRepository.save(existingTask);
-        log.info("Task updated successfully with ID: {}", savedTask.getId());
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, savedTask));
+        log.debug("Task updated successfully with ID: {}", savedTask.getId());
         return savedTask;
     }
 
+    @Override
+    public List<Task> updateTasks(List<Task> updatedTasks) {
+        log.debug("Updating {} tasks in bulk", updatedTasks.size());
+        checkBulkSize(updatedTasks.size());
+
+        List<Long> ids = updatedTasks.stream().map(Task::getId).distinct().toList();
+        Map<Long, Task> existingTasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Long> missingIds = ids.stream().filter(id -> !existingTasks.containsKey(id)).toList();
+        if (!missingIds.isEmpty() && restoreArchived(missingIds) > 0) {
+            taskRepository.findAllById(missingIds).forEach(task -> existingTasks.put(task.getId(), task));
+        }
+
+        // A task listed more than once gets one event, from its original state to its final one.
+        List<Task> result = new ArrayList<>();
+        Map<Long, TaskSnapshot> previousStates = new LinkedHashMap<>();
+        for (Task updatedTask : updatedTasks) {
+            Task existingTask = existingTasks.get(updatedTask.getId());
+            if (existingTask != null) {
+                previousStates.putIfAbsent(existingTask.getId(), TaskSnapshot.of(existingTask));
+                applyChanges(existingTask, updatedTask);
+                result.add(existingTask);
+            }
+        }
+        // With JPA the tasks are managed and this only registers them; they are dirty-checked at commit, where the
+        // UPDATEs go out as JDBC batches. Repositories that hand out plain objects (standalone) write them here.
+        taskRepository.saveAll(previousStates.keySet().stream().map(existingTasks::get).toList());
+        previousStates.forEach((taskId, previous) ->
+                eventPublisher.publishEvent(TaskChangedEvent.updated(previous, existingTasks.get(taskId))));
+        log.debug("Bulk updated {} of {} tasks", result.size(), updatedTasks.size());
+        return result;
+    }
+
 
     @Override
     public void deleteTask(Long id) {
-        log.info("Deleting task with ID: {}", id);
+        log.debug("Deleting task with ID: {}", id);
 
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
+        Task task = taskRepository.findById(id).orElse(null);
+        if (task != null) {
+            taskRepository.delete(task);
+        } else {
+            ArchivedTask archivedTask = archivedTaskRepository.findById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            archivedTaskRepository.delete(archivedTask);
+            task = archivedTask.toTask();
         }
-
-        taskRepository.deleteById(id);
-        log.info("Task deleted successfully with ID: {}", id);
+        // Delta sync clients learn about the deletion from the tombstone.
+        tombstoneRepository.save(TaskTombstone.of(id, taskRepository.currentTimestamp()));
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id, TaskSnapshot.of(task)));
+        log.debug("Task deleted successfully with ID: {}", id);
     }
     @Override
     public Task markTaskAsCompleted(Long id) {
-        log.info("Marking task as completed: {}", id);
+        log.debug("Marking task as completed: {}", id);
         return updateTaskStatus(id, TaskStatus.COMPLETED);
     }
 
     @Override
     public Task markTaskAsInProgress(Long id) {
-        log.info("Marking task as in progress: {}", id);
+        log.debug("Marking task as in progress: {}", id);
         return updateTaskStatus(id, TaskStatus.IN_PROGRESS);
     }
 
     @Override
     public Task updateTaskStatus(Long id, TaskStatus status) {
-        log.info("Updating task {} status to: {}", id, status);
-        Task task = getTaskById(id);
+        return updateTaskStatus(id, status, null);
+    }
+
+    @Override
+    public Task updateTaskStatus(Long id, TaskStatus status, TaskStatus expectedStatus) {
+        log.debug("Updating task {} status to: {}", id, status);
+        Set<TaskStatus> allowed = expectedStatus == null
+                ? EnumSet.allOf(TaskStatus.class)
+                : EnumSet.of(expectedStatus);
+        Task task = lockForWrite(id);
+        TaskSnapshot previous = TaskSnapshot.of(task);
+        LocalDateTime now = taskRepository.currentTimestamp();
+        if (taskRepository.transitionStatus(id, allowed, status, now) == 0) {
+            throw new TaskConflictException("Task " + id + " is not in status " + expectedStatus);
+        }
         task.setStatus(status);
-        return taskRepository.save(task);
+        return publishWritten(previous, task, now);
     }
 
     @Override
     public Task updateTaskPriority(Long id, Priority priority) {
-        log.info("Updating task {} priority to: {}", id, priority);
-        Task task = getTaskById(id);
+        log.debug("Updating task {} priority to: {}", id, priority);
+        Task task = lockForWrite(id);
+        TaskSnapshot previous = TaskSnapshot.of(task);
+        LocalDateTime now = taskRepository.currentTimestamp();
+        taskRepository.updatePriority(id, priority, now);
         task.setPriority(priority);
-        return taskRepository.save(task);
+        return publishWritten(previous, task, now);
     }
 
+    @Override
+    public TaskTransitionResult transitionStatus(TaskSelection selection, TaskStatus status) {
+        log.debug("Moving tasks {} to status {}", selection, status);
+        return transition(selection, task -> task.getStatus() == status, task -> task.setStatus(status),
+                TaskField.STATUS_CHANGE, (ids, now) -> taskRepository.updateStatusIn(ids, status, now));
+    }
+
+    @Override
+    public TaskTransitionResult transitionPriority(TaskSelection selection, Priority priority) {
+        log.debug("Moving tasks {} to priority {}", selection, priority);
+        return transition(selection, task -> task.getPriority() == priority, task -> task.setPriority(priority),
+                TaskField.PRIORITY_CHANGE, (ids, now) -> taskRepository.updatePriorityIn(ids, priority, now));
+    }
+
+    /**
+     * Locks the selected tasks a chunk at a time and changes those not yet at the target value with one UPDATE per
+     * chunk. The locks make the rows read the ones the UPDATE writes, so every task still gets an event with its
+     * real previous state, and the statement needs no version check. A selection of more than
+     * {@link #MAX_TRANSITION_TASKS} tasks is rejected, and with it everything already changed rolls back.
+     */
+    private TaskTransitionResult transition(TaskSelection selection,
+                                            Predicate<Task> atTarget,
+                                            Consumer<Task> change,
+                                            Set<TaskField> fields,
+                                            BiFunction<List<Long>, LocalDateTime, Integer> update) {
+        int matched = 0;
+        int updated = 0;
+        List<Long> missingIds = new ArrayList<>();
+
+        if (selection.isByIds()) {
+            if (selection.hasFilter()) {
+                throw new IllegalArgumentException("Select tasks either by ids or by filter, not both");
+            }
+            List<Long> ids = selection.getIds().stream().distinct().toList();
+            if (ids.size() > MAX_TRANSITION_TASKS) {
+                throw new IllegalArgumentException(
+                        "At most " + MAX_TRANSITION_TASKS + " ids can be transitioned per request");
+            }
+            for (int from = 0; from < ids.size(); from += TRANSITION_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + TRANSITION_CHUNK_SIZE, ids.size()));
+                List<Task> tasks = taskRepository.lockAllById(chunk);
+                if (tasks.size() < chunk.size() && restoreArchived(notIn(chunk, tasks)) > 0) {
+                    tasks = taskRepository.lockAllById(chunk);
+                }
+                missingIds.addAll(notIn(chunk, tasks));
+                matched += tasks.size();
+                updated += applyTransition(tasks, atTarget, change, fields, update);
+            }
+        } else {
+            if (!selection.hasFilter()) {
+                throw new IllegalArgumentException("A bulk transition needs ids or at least one filter");
+            }
+            List<Task> tasks;
+            Long afterId = null;
+            do {
+                tasks = taskRepository.lockMatching(selection, afterId, TRANSITION_CHUNK_SIZE);
+                if (!tasks.isEmpty()) {
+                    afterId = tasks.get(tasks.size() - 1).getId();
+                }
+                matched += tasks.size();
+                if (matched > MAX_TRANSITION_TASKS) {
+                    throw new IllegalArgumentException("The filter matches more than " + MAX_TRANSITION_TASKS
+                            + " tasks; narrow it or transition them by id");
+                }
+                updated += applyTransition(tasks, atTarget, change, fields, update);
+            } while (tasks.size() == TRANSITION_CHUNK_SIZE);
+        }
+
+        log.debug("Transitioned {} of {} matched tasks, {} ids missing", updated, matched, missingIds.size());
+        return new TaskTransitionResult(matched, updated, missingIds);
+    }
+
+    /**
+     * Updates the locked tasks not yet at the target and announces each as a partial change. The tasks hold only
+     * what the lock read; the due date is passed on so the overdue and due-soon flags follow a status change. The
+     * timestamp is the database's, read per chunk just before the UPDATE that writes it.
+     */
+    private int applyTransition(List<Task> tasks,
+                                Predicate<Task> atTarget,
+                                Consumer<Task> change,
+                                Set<TaskField> fields,
+                                BiFunction<List<Long>, LocalDateTime, Integer> update) {
+        List<Task> changing = tasks.stream().filter(atTarget.negate()).toList();
+        if (changing.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = taskRepository.currentTimestamp();
+        int rows = update.apply(changing.stream().map(Task::getId).toList(), now);
+        for (Task task : changing) {
+            Task written = written(task.getId(), now);
+            written.setDueDate(task.getDueDate());
+            change.accept(written);
+            publishPatched(TaskSnapshot.of(task), written, fields);
+        }
+        return rows;
+    }
+
+    private static List<Long> notIn(List<Long> ids, List<Task> tasks) {
+        Set<Long> found = tasks.stream().map(Task::getId).collect(Collectors.toSet());
+        return ids.stream().filter(id -> !found.contains(id)).toList();
+    }
+
+    /**
+     * Locks and reads task {@code id} for a single-column UPDATE, restoring it first if it is archived. The lock keeps
+     * what was read current until the transaction ends, so it is the state that UPDATE replaces.
+     */
+    private Task lockForWrite(Long id) {
+        return taskRepository.lockById(id)
+                .or(() -> restoreArchived(List.of(id)) > 0 ? taskRepository.lockById(id) : Optional.empty())
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    private Task findTaskForWrite(Long id) {
+        return taskRepository.findById(id)
+                .or(() -> restoreArchived(List.of(id)) > 0 ? taskRepository.findById(id) : Optional.empty())
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    /**
+     * Moves those of the given tasks that are archived back into the task table, unchanged, so they can be
+     * written like any other task; the write that follows announces the change. Returns how many were restored.
+     * Rolls back with the write, so a failed write leaves the task archived.
+     */
+    private int restoreArchived(Collection<Long> ids) {
+        List<Long> archivedIds = archivedTaskRepository.lockAllById(ids);
+        if (archivedIds.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.copyToTasks(archivedIds);
+        archivedTaskRepository.deleteAllByIdIn(archivedIds);
+        log.debug("Restored {} archived tasks", archivedIds.size());
+        return archivedIds.size();
+    }
+
+    /** Merges two lists sorted by {@code order} into one sorted list of at most {@code max} elements. */
+    private static List<Task> merge(List<Task> left, List<Task> right, Comparator<Task> order, int max) {
+        if (right.isEmpty()) {
+            return left.size() <= max ? left : left.subList(0, max);
+        }
+        List<Task> merged = new ArrayList<>(Math.min(max, left.size() + right.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < max && (i < left.size() || j < right.size())) {
+            if (j == right.size() || (i < left.size() && order.compare(left.get(i), right.get(j)) <= 0)) {
+                merged.add(left.get(i++));
+            } else {
+                merged.add(right.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * A task holding only what a bulk UPDATE of task {@code id} wrote besides its column: the id and updatedAt. The
+     * caller sets the column; everything else stays {@code null}.
+     */
+    private static Task written(Long id, LocalDateTime updatedAt) {
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(null);
+        task.setPriority(null);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    private void publishPatched(TaskSnapshot previous, Task written, Set<TaskField> fields) {
+        eventPublisher.publishEvent(TaskChangedEvent.patched(previous, written, fields));
+    }
+
+    /**
+     * Brings a task read by {@link #lockForWrite}, with its new column value already set, in line with the row the
+     * single-column UPDATE wrote (which also bumped the version), and announces it as a full update.
+     */
+    private Task publishWritten(TaskSnapshot previous, Task task, LocalDateTime updatedAt) {
+        task.setVersion(task.getVersion() + 1);
+        task.setUpdatedAt(updatedAt);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, task));
+        return task;
+    }
+
+    private void applyDefaults(Task task) {
+        if (task.getStatus() == null) {
+            task.setStatus(TaskStatus.TODO);
+        }
+        if (task.getPriority() == null) {
+            task.setPriority(Priority.MEDIUM);
+        }
+    }
+
+    private void applyChanges(Task existingTask, Task updatedTask) {
+        if (updatedTask.getTitle() != null) {
+            existingTask.setTitle(updatedTask.getTitle());
+        }
+        if (updatedTask.getDescription() != null) {
+            existingTask.setDescription(updatedTask.getDescription());
+        }
+        if (updatedTask.getStatus() != null) {
+            existingTask.setStatus(updatedTask.getStatus());
+        }
+        if (updatedTask.getPriority() != null) {
+            existingTask.setPriority(updatedTask.getPriority());
+        }
+        if (updatedTask.getDueDate() != null) {
+            existingTask.setDueDate(updatedTask.getDueDate());
+        }
+    }
+
+    private void checkBulkSize(int size) {
+        if (size > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " tasks can be processed per bulk request");
+        }
+    }
 
 }
@@ -0,0 +1,148 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.datasource.ReplicaRouting;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.event.TaskSnapshot;
+import com.taskapp.task_management_app.query.TaskDueDateCount;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.service.TaskStatsService;
+import com.taskapp.task_management_app.stats.TaskCounters;
+import com.taskapp.task_management_app.stats.TaskStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Task counts kept in {@link TaskCounters}, adjusted by every committed task change and recomputed from grouped
+ * queries on startup and every {@code task.stats.resync-interval}. Archived tasks are counted too; archiving
+ * moves a task without changing it, so it leaves the counts as they are.
+ * <p>
+ * A resync queries without holding the counters' lock, so changes keep being counted meanwhile, and swaps the fresh
+ * counters in only if no change arrived during the queries; otherwise it queries again, up to
+ * {@value #MAX_RESYNC_ATTEMPTS} times. If changes keep arriving, the last result is swapped in anyway and changes
+ * that committed during its queries may be counted twice or not at all until the next resync.
+ */
+@Service
+@Slf4j
+public class TaskStatsServiceImpl implements TaskStatsService {
+    static final int MAX_RESYNC_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile TaskCounters counters = new TaskCounters();
+    private volatile LocalDateTime syncedAt;
+    /** Shared by change listeners, exclusive for the swap so no delta lands on counters about to be replaced. */
+    private final ReentrantReadWriteLock countersLock = new ReentrantReadWriteLock();
+    /** Changes applied so far; a resync whose queries overlapped one of them cannot tell whether it was counted. */
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    public TaskStatsServiceImpl(TaskRepository taskRepository,
+                                ArchivedTaskRepository archivedTaskRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public TaskStats getStats() {
+        return counters.snapshot(LocalDate.now(), syncedAt);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${task.stats.resync-interval:PT5M}",
+            initialDelayString = "${task.stats.resync-interval:PT5M}")
+    public void resync() {
+        long start = System.currentTimeMillis();
+        for (int attempt = 1; ; attempt++) {
+            long sequence = changeSequence.get();
+            // The counters are kept up to date by deltas from here on, so the base must not lag behind them.
+            TaskCounters fresh = ReplicaRouting.onPrimary(() -> readOnlyTransaction.execute(status -> load()));
+            if (swap(fresh, sequence, attempt == MAX_RESYNC_ATTEMPTS)) {
+                log.debug("Task stats resynced in {} ms after {} attempt(s)", System.currentTimeMillis() - start,
+                        attempt);
+                return;
+            }
+        }
+    }
+
+    private boolean swap(TaskCounters fresh, long sequence, boolean lastAttempt) {
+        countersLock.writeLock().lock();
+        try {
+            if (changeSequence.get() != sequence && !lastAttempt) {
+                return false;
+            }
+            counters = fresh;
+            syncedAt = LocalDateTime.now();
+            return true;
+        } finally {
+            countersLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        countersLock.readLock().lock();
+        try {
+            changeSequence.incrementAndGet();
+            TaskCounters current = counters;
+            if (event.isPartial()) {
+                applyPatch(current, event.getPrevious(), event.getTask());
+                return;
+            }
+            if (event.getPrevious() != null) {
+                current.remove(event.getPrevious());
+            }
+            if (event.getTask() != null) {
+                current.add(TaskSnapshot.of(event.getTask()));
+            }
+        } finally {
+            countersLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A status or priority change carries only the new value; the writer read the previous state under a row lock,
+     * so the counters can move the task from its old bucket to the new one.
+     */
+    private static void applyPatch(TaskCounters current, TaskSnapshot previous, Task task) {
+        if (task.getStatus() != null) {
+            current.changeStatus(previous, task.getStatus());
+        }
+        if (task.getPriority() != null) {
+            current.changePriority(previous.getPriority(), task.getPriority());
+        }
+    }
+
+    private TaskCounters load() {
+        TaskCounters fresh = new TaskCounters();
+        for (TaskStatusPriorityCount row : taskRepository.countByStatusAndPriority()) {
+            fresh.addCount(row.getStatus(), row.getPriority(), row.getCount());
+        }
+        // Only completed tasks are archived, so the archive has no open due dates.
+        for (TaskStatusPriorityCount row : archivedTaskRepository.countByStatusAndPriority()) {
+            fresh.addCount(row.getStatus(), row.getPriority(), row.getCount());
+        }
+        for (TaskDueDateCount row : taskRepository.countOpenByDueDate()) {
+            fresh.addOpenDueDate(row.getDueDate(), row.getCount());
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.query.TaskChanges;
+import com.taskapp.task_management_app.query.TaskSyncToken;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import com.taskapp.task_management_app.repository.TaskTombstoneRepository;
+import com.taskapp.task_management_app.service.TaskSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync over the (updated_at, id) index and the tombstones, so a refresh reads what changed rather than the
+ * whole table. A resync sends every task in pages of {@code task.changes.max-changes}, one request each, walking
+ * the primary key; the last page's token then picks up whatever changed while the pages were fetched.
+ * <p>
+ * A task's updated_at is set before its transaction commits, so a change can become visible after a sync that
+ * started later than its timestamp. The next token therefore starts {@code task.changes.overlap} before this sync
+ * did: changes committed up to that long after their timestamp are still delivered, and recent ones may be
+ * delivered twice, which is harmless for an upsert. Both times come from the database's clock, so instances whose
+ * clocks differ agree on them. Callers read on the primary, as a replica may lag further.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskSyncServiceImpl implements TaskSyncService {
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final int maxChanges;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncServiceImpl(TaskRepository taskRepository,
+                               TaskTombstoneRepository tombstoneRepository,
+                               @Value("${task.changes.max-changes:5000}") int maxChanges,
+                               @Value("${task.changes.overlap:PT30S}") Duration overlap,
+                               @Value("${task.changes.tombstone-retention:P7D}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.maxChanges = maxChanges;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    public TaskChanges getChanges(TaskSyncToken since) {
+        LocalDateTime now = taskRepository.currentTimestamp();
+        LocalDateTime next = now.minus(overlap);
+        if (since == null || since.getSince().isBefore(now.minus(tombstoneRetention))) {
+            return resync(next, 0);
+        }
+        if (since.isResyncing()) {
+            return resync(since.getSince(), since.getResyncAfter());
+        }
+        // One row more than allowed tells us that a resync is cheaper than the changes.
+        List<Task> changed = taskRepository.findChangedSince(since.getSince(), Limit.of(maxChanges + 1));
+        if (changed.size() > maxChanges) {
+            log.debug("More than {} tasks changed since {}; resyncing", maxChanges, since.getSince());
+            return resync(next, 0);
+        }
+        // A tombstone of a task that is back (restored from the archive by a write) is out of date, and that
+        // write is among the changes.
+        Set<Long> changedIds = changed.stream().map(Task::getId).collect(Collectors.toSet());
+        List<Long> deletedIds = tombstoneRepository.findTaskIdsDeletedSince(since.getSince()).stream()
+                .filter(id -> !changedIds.contains(id))
+                .toList();
+        log.debug("{} tasks changed and {} removed since {}", changed.size(), deletedIds.size(), since.getSince());
+        return new TaskChanges(false, changed, deletedIds, new TaskSyncToken(next));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${task.changes.purge-interval:PT1H}",
+            initialDelayString = "${task.changes.purge-interval:PT1H}")
+    public int purgeTombstones() {
+        int purged = tombstoneRepository.deleteAllByDeletedAtBefore(
+                taskRepository.currentTimestamp().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} task tombstones older than {}", purged, tombstoneRetention);
+        }
+        return purged;
+    }
+
+    /**
+     * The page of a resync after task {@code afterId}; the first one, after id 0, tells the client to drop its copy.
+     * {@code since} is when the resync started, less the overlap, and every page's token carries it along.
+     */
+    private TaskChanges resync(LocalDateTime since, long afterId) {
+        List<Task> page = taskRepository.findAllAfterId(afterId, Limit.of(maxChanges));
+        Long lastId = page.size() < maxChanges ? null : page.get(page.size() - 1).getId();
+        return new TaskChanges(afterId == 0, page, List.of(), new TaskSyncToken(since, lastId));
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskapp.task_management_app.stats;
+
+import com.taskapp.task_management_app.dto.mapper.TaskMapper;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.event.TaskSnapshot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counts maintained by applying deltas as tasks change. Open tasks with a due date are kept in a per-day
+ * histogram instead of overdue/due-soon counters, so those buckets are evaluated against the current date on every
+ * read and roll over at midnight without any bookkeeping.
+ * <p>
+ * Safe for concurrent updates and reads; a read racing with an update may see it partially applied.
+ */
+public class TaskCounters {
+    private final LongAdder total = new LongAdder();
+    private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, LongAdder> byPriority = new EnumMap<>(Priority.class);
+    private final ConcurrentSkipListMap<LocalDate, Long> openByDueDate = new ConcurrentSkipListMap<>();
+
+    public TaskCounters() {
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new LongAdder());
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, new LongAdder());
+        }
+    }
+
+    public void add(TaskSnapshot task) {
+        apply(task, 1);
+    }
+
+    public void remove(TaskSnapshot task) {
+        apply(task, -1);
+    }
+
+    /**
+     * Moves a task from the status in {@code previous} to {@code status}. Its due date, if {@code previous} has one,
+     * enters or leaves the due-date histogram as the task reopens or completes.
+     */
+    public void changeStatus(TaskSnapshot previous, TaskStatus status) {
+        byStatus.get(previous.getStatus()).decrement();
+        byStatus.get(status).increment();
+        boolean wasOpen = previous.getStatus() != TaskStatus.COMPLETED;
+        boolean isOpen = status != TaskStatus.COMPLETED;
+        if (previous.getDueDate() != null && wasOpen != isOpen) {
+            addOpenDueDate(previous.getDueDate(), isOpen ? 1 : -1);
+        }
+    }
+
+    public void changePriority(Priority previous, Priority priority) {
+        byPriority.get(previous).decrement();
+        byPriority.get(priority).increment();
+    }
+
+    /** Adds {@code count} tasks with the given status and priority, ignoring due dates. */
+    public void addCount(TaskStatus status, Priority priority, long count) {
+        total.add(count);
+        byStatus.get(status).add(count);
+        byPriority.get(priority).add(count);
+    }
+
+    /** Adds {@code count} open tasks due on {@code dueDate} to the due-date histogram. */
+    public void addOpenDueDate(LocalDate dueDate, long count) {
+        openByDueDate.merge(dueDate, count, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    public TaskStats snapshot(LocalDate today, LocalDateTime syncedAt) {
+        return new TaskStats(
+                total.sum(),
+                sums(byStatus, TaskStatus.class),
+                sums(byPriority, Priority.class),
+                sum(openByDueDate.headMap(today, false)),
+                sum(openByDueDate.headMap(today.plusDays(TaskMapper.DUE_SOON_DAYS), true)),
+                syncedAt);
+    }
+
+    private void apply(TaskSnapshot task, long delta) {
+        addCount(task.getStatus(), task.getPriority(), delta);
+        // Same rule as TaskMapper: completed tasks are never overdue or due soon.
+        if (task.getDueDate() != null && task.getStatus() != TaskStatus.COMPLETED) {
+            addOpenDueDate(task.getDueDate(), delta);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> sums(Map<E, LongAdder> counters, Class<E> type) {
+        Map<E, Long> sums = new EnumMap<>(type);
+        counters.forEach((key, counter) -> sums.put(key, counter.sum()));
+        return Collections.unmodifiableMap(sums);
+    }
+
+    private static long sum(Map<LocalDate, Long> histogram) {
+        long sum = 0;
+        for (long count : histogram.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+}
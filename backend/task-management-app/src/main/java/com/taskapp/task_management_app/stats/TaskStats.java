@@ -0,0 +1,20 @@
+package com.taskapp.task_management_app.stats;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Value
+public class TaskStats {
+    long total;
+    Map<TaskStatus, Long> byStatus;
+    Map<Priority, Long> byPriority;
+    long overdue;
+    /** Open tasks due within {@link com.taskapp.task_management_app.dto.mapper.TaskMapper#DUE_SOON_DAYS}, overdue ones included. */
+    long dueSoon;
+    /** When the counters were last recomputed from the database; {@code null} before the first sync. */
+    LocalDateTime syncedAt;
+}
@@ -0,0 +1,79 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.ArchivedTask;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import com.taskapp.task_management_app.repository.ArchivedTaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link ArchivedTaskRepository} over the {@link TaskStore}. A task moves between the tables as the same row, id
+ * and version included, like the INSERT ... SELECT statements of the JPA repository move it.
+ */
+public class StandaloneArchivedTaskRepository extends StandaloneRepositorySupport<ArchivedTask>
+        implements ArchivedTaskRepository {
+
+    public StandaloneArchivedTaskRepository(TaskStore store) {
+        super(store, StoreTable.ARCHIVE);
+    }
+
+    @Override
+    ArchivedTask toEntity(StoredTask task) {
+        return task.toArchivedTask();
+    }
+
+    @Override
+    Long idOf(ArchivedTask task) {
+        return task.getId();
+    }
+
+    @Override
+    public int copyFromTasks(Collection<Long> ids, LocalDateTime now) {
+        return copy(ids, StoreTable.TASKS, StoreTable.ARCHIVE, task -> task.archived(now));
+    }
+
+    @Override
+    public List<Long> lockAllById(Collection<Long> ids) {
+        return store.write(tables -> tables.table(StoreTable.ARCHIVE).getAll(sortedIds(ids)).stream()
+                .map(StoredTask::id)
+                .toList());
+    }
+
+    @Override
+    public int copyToTasks(Collection<Long> ids) {
+        return copy(ids, StoreTable.ARCHIVE, StoreTable.TASKS, StoredTask::restored);
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        return deleteExisting(ids);
+    }
+
+    @Override
+    public List<TaskStatusPriorityCount> countByStatusAndPriority() {
+        return StandaloneTaskRepository.countByStatusAndPriority(store, StoreTable.ARCHIVE);
+    }
+
+    /**
+     * Copies the rows into the other table. Like the JPA statements this only copies; the caller deletes the
+     * originals next, in the same transaction. {@link TaskStore} recovery settles a crash in between for moves
+     * made outside one.
+     */
+    private int copy(Collection<Long> ids, StoreTable from, StoreTable to, UnaryOperator<StoredTask> change) {
+        return store.write(batch -> {
+            int copied = 0;
+            for (Long id : sortedIds(ids)) {
+                Optional<StoredTask> task = batch.get(from, id);
+                if (task.isPresent()) {
+                    batch.put(to, change.apply(task.get()));
+                    copied++;
+                }
+            }
+            return copied;
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskapp.task_management_app.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * What the standalone repositories have in common: reading and deleting rows of one table by id.
+ */
+abstract class StandaloneRepositorySupport<T> {
+    protected final TaskStore store;
+    private final StoreTable table;
+
+    StandaloneRepositorySupport(TaskStore store, StoreTable table) {
+        this.store = store;
+        this.table = table;
+    }
+
+    /** A new object holding the row's columns. */
+    abstract T toEntity(StoredTask task);
+
+    abstract Long idOf(T entity);
+
+    public Optional<T> findById(Long id) {
+        return store.read(tables -> Optional.ofNullable(tables.table(table).get(id)).map(this::toEntity));
+    }
+
+    public Optional<Long> findVersionById(Long id) {
+        return store.read(tables -> Optional.ofNullable(tables.table(table).get(id)).map(StoredTask::version));
+    }
+
+    public boolean existsById(Long id) {
+        return store.read(tables -> tables.table(table).get(id) != null);
+    }
+
+    public List<T> findAll() {
+        return store.read(tables -> toEntities(tables.table(table).all()));
+    }
+
+    /** The rows that exist, in id order. */
+    public List<T> findAllById(Iterable<Long> ids) {
+        return store.read(tables -> toEntities(tables.table(table).getAll(sortedIds(ids))));
+    }
+
+    /** Deletes the rows that exist, in one write, and returns how many there were. */
+    int deleteExisting(Iterable<? extends Long> ids) {
+        return store.write(batch -> {
+            int deleted = 0;
+            for (Long id : sortedIds(ids)) {
+                if (batch.get(table, id).isPresent()) {
+                    batch.delete(table, id);
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    public void delete(T entity) {
+        deleteExisting(List.of(idOf(entity)));
+    }
+
+    List<T> toEntities(Iterable<StoredTask> tasks) {
+        List<T> entities = new ArrayList<>();
+        tasks.forEach(task -> entities.add(toEntity(task)));
+        return entities;
+    }
+
+    /** Distinct ids in ascending order, the order the JPA queries return rows in. */
+    static List<Long> sortedIds(Iterable<? extends Long> ids) {
+        List<Long> sorted = new ArrayList<>();
+        ids.forEach(sorted::add);
+        return sorted.stream().distinct().sorted().toList();
+    }
+}
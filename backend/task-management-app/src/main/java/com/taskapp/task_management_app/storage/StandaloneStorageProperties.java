@@ -0,0 +1,27 @@
+package com.taskapp.task_management_app.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The embedded task store of the {@code standalone} profile, under {@code task.storage}. The log is compacted into
+ * a snapshot when it outgrows {@code compact-after}, every {@code snapshot-interval} and on shutdown; startup time
+ * is the snapshot load plus the replay of the log written since.
+ */
+@Data
+@ConfigurationProperties("task.storage")
+public class StandaloneStorageProperties {
+    /** Holds tasks.log and tasks.snapshot; created if missing. */
+    private Path directory = Path.of("data", "tasks");
+    /** Size the log file is mapped with at first; it doubles whenever it fills up. */
+    private DataSize initialLogSize = DataSize.ofMegabytes(16);
+    /** Log size that triggers a snapshot and an empty log. */
+    private DataSize compactAfter = DataSize.ofMegabytes(64);
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+    /** Forces every write to disk before it returns. Without it a write survives a crash of the process only. */
+    private boolean syncWrites = false;
+}
@@ -0,0 +1,28 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.TaskCollectionState;
+import com.taskapp.task_management_app.repository.TaskCollectionStateRepository;
+
+/**
+ * {@link TaskCollectionStateRepository} for the standalone store. Every committed write already raises the store's
+ * log sequence, which is read under the same lock as the tables, so that serves as the version and nothing needs to
+ * be recorded.
+ */
+public class StandaloneTaskCollectionStateRepository implements TaskCollectionStateRepository {
+    private final TaskStore store;
+
+    public StandaloneTaskCollectionStateRepository(TaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public int recordChange() {
+        return 1;
+    }
+
+    @Override
+    public TaskCollectionState findCurrent() {
+        TaskStore.Revision revision = store.revision();
+        return TaskCollectionState.of(revision.sequence(), revision.loggedAt());
+    }
+}
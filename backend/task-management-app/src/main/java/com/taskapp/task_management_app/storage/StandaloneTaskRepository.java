@@ -0,0 +1,272 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskDueDateCount;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import com.taskapp.task_management_app.repository.TaskRepository;
+import lombok.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * {@link TaskRepository} over the {@link TaskStore}. Finders read the in-memory indexes and return new, unmanaged
+ * tasks, so a changed task must be saved; saving writes the id, version and timestamps back into it, as Hibernate
+ * does. The locking finders stand in for the row locks of the JPA repository by taking the store's write lock,
+ * which a transaction then holds until it ends.
+ */
+public class StandaloneTaskRepository extends StandaloneRepositorySupport<Task> implements TaskRepository {
+    private static final Comparator<StoredTask> BY_UPDATED_AT = Comparator
+            .comparing(StoredTask::updatedAt)
+            .thenComparingLong(StoredTask::id);
+
+    public StandaloneTaskRepository(TaskStore store) {
+        super(store, StoreTable.TASKS);
+    }
+
+    @Override
+    Task toEntity(StoredTask task) {
+        return task.toTask();
+    }
+
+    @Override
+    Long idOf(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    public <S extends Task> S save(S task) {
+        saveAll(List.of(task));
+        return task;
+    }
+
+    /** Writes all tasks in one log record: new ones get an id and version 0, the others must be at their version. */
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> tasks) {
+        List<S> saved = new ArrayList<>();
+        tasks.forEach(saved::add);
+        LocalDateTime now = LocalDateTime.now();
+        store.write(batch -> {
+            for (Task task : saved) {
+                save(batch, task, now).copyTo(task);
+            }
+            return saved.size();
+        });
+        return saved;
+    }
+
+    /** The store writes new tasks in one record either way. */
+    @Override
+    public <S extends Task> List<S> insertAll(List<S> tasks) {
+        return saveAll(tasks);
+    }
+
+    private StoredTask save(TaskStore.Batch batch, Task task, LocalDateTime now) {
+        if (task.getId() == null) {
+            StoredTask created = new StoredTask(batch.nextId(), task.getTitle(), task.getDescription(),
+                    task.getStatus(), task.getPriority(), task.getDueDate(), now, now, 0, null);
+            batch.put(StoreTable.TASKS, created);
+            return created;
+        }
+        StoredTask existing = batch.get(StoreTable.TASKS, task.getId())
+                .filter(current -> Objects.equals(task.getVersion(), current.version()))
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(Task.class, task.getId()));
+        // Like Hibernate's dirty check: an unchanged task is neither written nor versioned.
+        if (Objects.equals(task.getTitle(), existing.title())
+                && Objects.equals(task.getDescription(), existing.description())
+                && task.getStatus() == existing.status()
+                && task.getPriority() == existing.priority()
+                && Objects.equals(task.getDueDate(), existing.dueDate())) {
+            return existing;
+        }
+        StoredTask updated = new StoredTask(existing.id(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), existing.createdAt(), now, existing.version() + 1, null);
+        batch.put(StoreTable.TASKS, updated);
+        return updated;
+    }
+
+    @Override
+    public int transitionStatus(Long id, Collection<TaskStatus> allowed, TaskStatus status, LocalDateTime now) {
+        return updateIf(id, task -> allowed.contains(task.status()), task -> task.withStatus(status, now));
+    }
+
+    @Override
+    public int updatePriority(Long id, Priority priority, LocalDateTime now) {
+        return updateIf(id, task -> true, task -> task.withPriority(priority, now));
+    }
+
+    /** The whole tasks: every column is already in memory, so reading only the transition's would save nothing. */
+    @Override
+    public List<Task> lockAllById(Collection<Long> ids) {
+        return store.write(tables -> toEntities(tasks(tables).getAll(sortedIds(ids))));
+    }
+
+    @Override
+    public Optional<Task> lockById(Long id) {
+        return store.write(tables -> Optional.ofNullable(tasks(tables).get(id)).map(StoredTask::toTask));
+    }
+
+    @Override
+    public int updateStatusIn(Collection<Long> ids, TaskStatus status, LocalDateTime now) {
+        return updateAll(ids, task -> task.withStatus(status, now));
+    }
+
+    @Override
+    public int updatePriorityIn(Collection<Long> ids, Priority priority, LocalDateTime now) {
+        return updateAll(ids, task -> task.withPriority(priority, now));
+    }
+
+    @Override
+    public List<TaskStatusPriorityCount> countByStatusAndPriority() {
+        return countByStatusAndPriority(store, StoreTable.TASKS);
+    }
+
+    @Override
+    public List<TaskDueDateCount> countOpenByDueDate() {
+        return store.read(tables -> tasks(tables).countOpenByDueDate().entrySet().stream()
+                .<TaskDueDateCount>map(count -> new DueDateCount(count.getKey(), count.getValue()))
+                .toList());
+    }
+
+    @Override
+    public List<Long> findArchivableIds(LocalDateTime cutoff, int limit) {
+        return store.write(tables -> tasks(tables).withStatus(TaskStatus.COMPLETED).stream()
+                .filter(task -> task.updatedAt().isBefore(cutoff))
+                .sorted(BY_UPDATED_AT)
+                .limit(limit)
+                .map(StoredTask::id)
+                .toList());
+    }
+
+    @Override
+    public List<Task> findChangedSince(LocalDateTime since, Limit limit) {
+        return store.read(tables -> toEntities(tasks(tables).updatedSince(since,
+                limit.isLimited() ? limit.max() : Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public List<Task> findAllAfterId(long afterId, Limit limit) {
+        return store.read(tables -> toEntities(tasks(tables).afterId(afterId,
+                limit.isLimited() ? limit.max() : Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        return deleteExisting(ids);
+    }
+
+    /** The store lives in this one process, so its clock is the application's. */
+    @Override
+    public LocalDateTime currentTimestamp() {
+        return LocalDateTime.now();
+    }
+
+    @Override
+    public List<Task> findPage(TaskPageQuery query, int maxResults) {
+        return store.read(tables -> toEntities(tasks(tables).page(query, maxResults)));
+    }
+
+    /** Copies the rows up front, so the stream needs no transaction and holds no lock. */
+    @Override
+    public Stream<Task> streamAll() {
+        return findAll().stream();
+    }
+
+    /** Every column is already in memory, so projecting would save nothing; the tasks come with all of them. */
+    @Override
+    public List<Task> findAllProjected(Set<TaskField> fields) {
+        return findAll();
+    }
+
+    @Override
+    public List<Task> lockMatching(TaskSelection filter, Long afterId, int maxResults) {
+        return store.write(tables -> toEntities(tasks(tables).matching(filter.getStatus(), filter.getPriority(),
+                filter.getDueBefore(), afterId, maxResults)));
+    }
+
+    @Override
+    public List<Task> findArchivedPage(TaskPageQuery query, int maxResults) {
+        return store.read(tables -> toEntities(tables.table(StoreTable.ARCHIVE).page(query, maxResults)));
+    }
+
+    @Override
+    public Stream<Task> streamArchived() {
+        return store.read(tables -> toEntities(tables.table(StoreTable.ARCHIVE).all())).stream();
+    }
+
+    @Override
+    public List<Task> findArchivedProjected(Set<TaskField> fields) {
+        return store.read(tables -> toEntities(tables.table(StoreTable.ARCHIVE).all()));
+    }
+
+    static List<TaskStatusPriorityCount> countByStatusAndPriority(TaskStore store, StoreTable table) {
+        return store.read(tables -> {
+            List<TaskStatusPriorityCount> counts = new ArrayList<>();
+            tables.table(table).countByStatusAndPriority().forEach((status, byPriority) -> {
+                for (Map.Entry<Priority, Long> count : byPriority.entrySet()) {
+                    counts.add(new StatusPriorityCount(status, count.getKey(), count.getValue()));
+                }
+            });
+            return counts;
+        });
+    }
+
+    private int updateIf(Long id, Predicate<StoredTask> condition, UnaryOperator<StoredTask> change) {
+        return store.write(batch -> batch.get(StoreTable.TASKS, id)
+                .filter(condition)
+                .map(task -> {
+                    batch.put(StoreTable.TASKS, change.apply(task));
+                    return 1;
+                })
+                .orElse(0));
+    }
+
+    private int updateAll(Collection<Long> ids, UnaryOperator<StoredTask> change) {
+        return store.write(batch -> {
+            int updated = 0;
+            for (Long id : sortedIds(ids)) {
+                Optional<StoredTask> task = batch.get(StoreTable.TASKS, id);
+                if (task.isPresent()) {
+                    batch.put(StoreTable.TASKS, change.apply(task.get()));
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    private static TaskTable tasks(TaskStore.Tables tables) {
+        return tables.table(StoreTable.TASKS);
+    }
+
+    @Value
+    static class StatusPriorityCount implements TaskStatusPriorityCount {
+        TaskStatus status;
+        Priority priority;
+        long count;
+    }
+
+    @Value
+    static class DueDateCount implements TaskDueDateCount {
+        LocalDate dueDate;
+        long count;
+    }
+}
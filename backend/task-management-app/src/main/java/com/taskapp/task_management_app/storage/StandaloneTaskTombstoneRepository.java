@@ -0,0 +1,73 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.TaskTombstone;
+import com.taskapp.task_management_app.repository.TaskTombstoneRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link TaskTombstoneRepository} over the {@link TaskStore}. Tombstones are keyed by task id, so a task removed twice
+ * keeps only its latest one, and a tombstone's id is its task id.
+ */
+public class StandaloneTaskTombstoneRepository extends StandaloneRepositorySupport<TaskTombstone>
+        implements TaskTombstoneRepository {
+
+    public StandaloneTaskTombstoneRepository(TaskStore store) {
+        super(store, StoreTable.TOMBSTONES);
+    }
+
+    @Override
+    TaskTombstone toEntity(StoredTask task) {
+        TaskTombstone tombstone = TaskTombstone.of(task.id(), task.updatedAt());
+        tombstone.setId(task.id());
+        return tombstone;
+    }
+
+    @Override
+    Long idOf(TaskTombstone tombstone) {
+        return tombstone.getTaskId();
+    }
+
+    @Override
+    public <S extends TaskTombstone> S save(S tombstone) {
+        store.write(batch -> {
+            batch.put(StoreTable.TOMBSTONES, StoredTask.tombstone(tombstone.getTaskId(), tombstone.getDeletedAt()));
+            return 1;
+        });
+        tombstone.setId(tombstone.getTaskId());
+        return tombstone;
+    }
+
+    @Override
+    public int recordFromTasks(Collection<Long> ids, LocalDateTime now) {
+        return store.write(batch -> {
+            int recorded = 0;
+            for (Long id : sortedIds(ids)) {
+                if (batch.get(StoreTable.TASKS, id).isPresent()) {
+                    batch.put(StoreTable.TOMBSTONES, StoredTask.tombstone(id, now));
+                    recorded++;
+                }
+            }
+            return recorded;
+        });
+    }
+
+    @Override
+    public List<Long> findTaskIdsDeletedSince(LocalDateTime since) {
+        return store.read(tables -> tables.table(StoreTable.TOMBSTONES).updatedSince(since, Integer.MAX_VALUE)
+                .stream()
+                .map(StoredTask::id)
+                .toList());
+    }
+
+    @Override
+    public int deleteAllByDeletedAtBefore(LocalDateTime cutoff) {
+        return store.write(batch -> {
+            List<StoredTask> expired = batch.table(StoreTable.TOMBSTONES).updatedBefore(cutoff);
+            expired.forEach(tombstone -> batch.delete(StoreTable.TOMBSTONES, tombstone.id()));
+            return expired.size();
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskapp.task_management_app.storage;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+
+/**
+ * Runs {@code @Transactional} services on the {@link TaskStore} as transactions of the store: their writes are logged
+ * together when the outermost transactional method returns, or undone if it throws. Transaction synchronizations
+ * work as on the JPA transaction manager, so {@code @TransactionalEventListener}s and other after-commit callbacks
+ * run after the commit.
+ * <p>
+ * A transaction holds the store's write lock from its first write until it ends, which serializes writing
+ * transactions. Nested REQUIRES_NEW transactions may read, but one that writes while its outer transaction has
+ * written is refused.
+ */
+public class StandaloneTransactionManager extends AbstractPlatformTransactionManager {
+    private final TaskStore store;
+
+    public StandaloneTransactionManager(TaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        Transaction transaction = new Transaction();
+        transaction.current = store.current();
+        return transaction;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((Transaction) transaction).current != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        ((Transaction) transaction).current = store.begin();
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((Transaction) transaction).current = null;
+        return store.suspend();
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        store.resume((TaskStore.Transaction) suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        ((Transaction) status.getTransaction()).current.commit();
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        ((Transaction) status.getTransaction()).current.rollback();
+    }
+
+    /** Marks the store transaction, which participating and outer transaction objects share. */
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((Transaction) status.getTransaction()).current.setRollbackOnly();
+    }
+
+    /** The store transaction a {@code @Transactional} call runs in, if it has started one or joined one. */
+    private static final class Transaction implements SmartTransactionObject {
+        private TaskStore.Transaction current;
+
+        @Override
+        public boolean isRollbackOnly() {
+            return current != null && current.isRollbackOnly();
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskapp.task_management_app.storage;
+
+/** The tables of the standalone store; the ordinal is part of the log format, so only append. */
+public enum StoreTable {
+    TASKS,
+    ARCHIVE,
+    /** Ids of removed tasks, with when they were removed as the update time; see TaskTombstone. */
+    TOMBSTONES
+}
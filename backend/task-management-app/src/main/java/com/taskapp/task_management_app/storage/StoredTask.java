@@ -0,0 +1,171 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.ArchivedTask;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * One row of the standalone store: an immutable copy of a task's columns, shared between the tables, their indexes
+ * and readers without further copying. {@code archivedAt} is only set in the archive table.
+ */
+record StoredTask(long id,
+                  String title,
+                  String description,
+                  TaskStatus status,
+                  Priority priority,
+                  LocalDate dueDate,
+                  LocalDateTime createdAt,
+                  LocalDateTime updatedAt,
+                  long version,
+                  LocalDateTime archivedAt) {
+
+    static StoredTask of(Task task) {
+        return new StoredTask(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(), task.getVersion(),
+                null);
+    }
+
+    /** A key-only row to position a seek in an index ordered by {@code createdAt} or {@code dueDate} and id. */
+    static StoredTask probe(long id, LocalDateTime createdAt, LocalDate dueDate) {
+        return new StoredTask(id, null, null, null, null, dueDate, createdAt, null, 0, null);
+    }
+
+    /** A key-only row to position a seek in the index ordered by {@code updatedAt} and id. */
+    static StoredTask probeUpdatedAt(long id, LocalDateTime updatedAt) {
+        return new StoredTask(id, null, null, null, null, null, null, updatedAt, 0, null);
+    }
+
+    /** A tombstone row: only the id of the removed task and, as {@code updatedAt}, when it was removed. */
+    static StoredTask tombstone(long taskId, LocalDateTime removedAt) {
+        return new StoredTask(taskId, null, null, null, null, null, null, removedAt, 0, null);
+    }
+
+    StoredTask withStatus(TaskStatus newStatus, LocalDateTime now) {
+        return new StoredTask(id, title, description, newStatus, priority, dueDate, createdAt, now, version + 1,
+                archivedAt);
+    }
+
+    StoredTask withPriority(Priority newPriority, LocalDateTime now) {
+        return new StoredTask(id, title, description, status, newPriority, dueDate, createdAt, now, version + 1,
+                archivedAt);
+    }
+
+    StoredTask archived(LocalDateTime at) {
+        return new StoredTask(id, title, description, status, priority, dueDate, createdAt, updatedAt, version, at);
+    }
+
+    StoredTask restored() {
+        return archived(null);
+    }
+
+    /** A new, unmanaged task with every column set. */
+    Task toTask() {
+        Task task = new Task();
+        copyTo(task);
+        return task;
+    }
+
+    /** Writes the columns back into the given task, e.g. the id, version and timestamps after a save. */
+    void copyTo(Task task) {
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(version);
+    }
+
+    ArchivedTask toArchivedTask() {
+        ArchivedTask task = new ArchivedTask();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setVersion(version);
+        task.setArchivedAt(archivedAt);
+        return task;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(id);
+        writeString(out, title);
+        writeString(out, description);
+        // Enum names rather than ordinals, so reordering the enums does not reinterpret stored rows.
+        writeString(out, status == null ? null : status.name());
+        writeString(out, priority == null ? null : priority.name());
+        out.writeLong(dueDate == null ? Long.MIN_VALUE : dueDate.toEpochDay());
+        writeDateTime(out, createdAt);
+        writeDateTime(out, updatedAt);
+        out.writeLong(version);
+        writeDateTime(out, archivedAt);
+    }
+
+    static StoredTask read(DataInput in) throws IOException {
+        long id = in.readLong();
+        String title = readString(in);
+        String description = readString(in);
+        String statusName = readString(in);
+        String priorityName = readString(in);
+        long dueDay = in.readLong();
+        LocalDateTime createdAt = readDateTime(in);
+        LocalDateTime updatedAt = readDateTime(in);
+        long version = in.readLong();
+        LocalDateTime archivedAt = readDateTime(in);
+        return new StoredTask(id, title, description,
+                statusName == null ? null : TaskStatus.valueOf(statusName),
+                priorityName == null ? null : Priority.valueOf(priorityName),
+                dueDay == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(dueDay), createdAt, updatedAt, version,
+                archivedAt);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,136 @@
+package com.taskapp.task_management_app.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped log of store mutations. Each record is framed as {@code [length][crc32][payload]}; the
+ * length is written last, so a record only becomes visible to {@link #replay} once it is complete, and a record torn
+ * by a crash fails its checksum. The mapping grows by doubling when a record does not fit.
+ * <p>
+ * Appends land in the page cache and survive a crash of the process. {@code syncWrites} also forces every record
+ * to disk before the append returns, which is what it takes to survive a crash of the machine.
+ * <p>
+ * Not thread-safe; the {@link TaskStore} lock guards every access.
+ */
+final class TaskLog implements Closeable {
+    private static final int MAGIC = 0x544C4F47;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FRAME_SIZE = 8;
+
+    private final FileChannel channel;
+    private final boolean syncWrites;
+    private MappedByteBuffer buffer;
+    private int position = HEADER_SIZE;
+
+    TaskLog(Path path, int initialSize, boolean syncWrites) throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.syncWrites = syncWrites;
+        long size = Math.max(channel.size(), Math.max(initialSize, HEADER_SIZE + FRAME_SIZE));
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Log " + path + " is larger than 2 GB; it should have been compacted");
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        int magic = buffer.getInt(0);
+        if (magic == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT);
+        } else if (magic != MAGIC || buffer.getInt(4) != FORMAT) {
+            throw new IOException(path + " is not a task log of format " + FORMAT);
+        }
+    }
+
+    /**
+     * Hands every intact record to {@code records}, in order, and positions the log after the last one. Anything
+     * after that (the remains of a torn record) is cleared, so later appends are not followed by stale bytes.
+     */
+    int replay(Consumer<ByteBuffer> records) {
+        int count = 0;
+        int at = HEADER_SIZE;
+        while (at + FRAME_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(at);
+            if (length <= 0 || length > buffer.capacity() - at - FRAME_SIZE) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(at + FRAME_SIZE, length);
+            if (crc(payload) != buffer.getInt(at + 4)) {
+                break;
+            }
+            records.accept(payload.asReadOnlyBuffer());
+            at += FRAME_SIZE + length;
+            count++;
+        }
+        position = at;
+        if (at + 4 <= buffer.capacity() && buffer.getInt(at) != 0) {
+            clear(at, buffer.capacity());
+        }
+        return count;
+    }
+
+    void append(byte[] payload) throws IOException {
+        // Room for the record and for the zero length that ends the log after it.
+        long needed = (long) position + FRAME_SIZE + payload.length + 4;
+        if (needed > buffer.capacity()) {
+            grow(needed);
+        }
+        buffer.putInt(position + 4, crc(ByteBuffer.wrap(payload)));
+        buffer.put(position + FRAME_SIZE, payload);
+        buffer.putInt(position, payload.length);
+        if (syncWrites) {
+            buffer.force(position, FRAME_SIZE + payload.length);
+        }
+        position += FRAME_SIZE + payload.length;
+    }
+
+    /** Bytes of records in the log. */
+    int size() {
+        return position - HEADER_SIZE;
+    }
+
+    /**
+     * Empties the log once a snapshot covers it. The first record's length is cleared first, so a crash part way
+     * through leaves a log that replays as empty rather than one with a gap.
+     */
+    void reset() {
+        clear(HEADER_SIZE, position);
+        buffer.force();
+        position = HEADER_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void grow(long needed) throws IOException {
+        long size = Math.max((long) buffer.capacity() * 2, needed);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Log would exceed 2 GB; compact it more often");
+        }
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void clear(int from, int to) {
+        byte[] zeros = new byte[8192];
+        for (int at = from; at < to; at += zeros.length) {
+            buffer.put(at, zeros, 0, Math.min(zeros.length, to - at));
+        }
+    }
+
+    private static int crc(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,535 @@
+package com.taskapp.task_management_app.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Embedded storage for the {@code standalone} profile: the task, archive and tombstone tables held in memory with
+ * their indexes (see {@link TaskTable}), made durable by an append-only {@link TaskLog} and periodic snapshots.
+ * <p>
+ * Every {@link #write} is atomic: its mutations go to the log as one record and are then applied to the tables, or
+ * not at all if the work fails. On startup the latest snapshot is loaded and the log records after it are replayed;
+ * a record torn by a crash is dropped. {@link #compact} writes a new snapshot and empties the log; it runs when the
+ * log passes {@code compactAfterBytes} and on the caller's schedule.
+ * <p>
+ * Reads share a lock and writes are serialized by it. Outside a transaction each {@link #write} is logged on its own.
+ * Inside one (see {@link #begin}) a write is applied to the tables right away, so the transaction reads what it
+ * wrote, and the transaction keeps the write lock until it ends: other threads see none of its writes before the
+ * commit, which logs them all as one record, and a rollback puts the rows back as they were.
+ */
+@Slf4j
+public class TaskStore implements Closeable {
+    private static final int SNAPSHOT_MAGIC = 0x54534E50;
+    private static final int SNAPSHOT_FORMAT = 2;
+    /** Format 1 snapshots predate the tombstone table and hold the first two tables only. */
+    private static final int FORMAT_1_TABLES = 2;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path snapshotPath;
+    private final TaskLog taskLog;
+    private final long compactAfterBytes;
+    private final Map<StoreTable, TaskTable> tables = new EnumMap<>(StoreTable.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Transaction> transaction = new ThreadLocal<>();
+    private long sequence;
+    private LocalDateTime loggedAt = LocalDateTime.now();
+    private long nextId = 1;
+
+    private TaskStore(Path snapshotPath, TaskLog taskLog, long compactAfterBytes) {
+        this.snapshotPath = snapshotPath;
+        this.taskLog = taskLog;
+        this.compactAfterBytes = compactAfterBytes;
+        for (StoreTable table : StoreTable.values()) {
+            tables.put(table, new TaskTable());
+        }
+    }
+
+    /** Opens or creates the store in {@code directory}, recovering its state from the snapshot and the log. */
+    public static TaskStore open(Path directory, int initialLogSize, long compactAfterBytes, boolean syncWrites)
+            throws IOException {
+        Files.createDirectories(directory);
+        TaskStore store = new TaskStore(directory.resolve("tasks.snapshot"),
+                new TaskLog(directory.resolve("tasks.log"), initialLogSize, syncWrites), compactAfterBytes);
+        store.recover();
+        return store;
+    }
+
+    /** Runs {@code work} against the tables under the shared read lock. The tables must not escape it. */
+    <R> R read(Function<Tables, R> work) {
+        lock.readLock().lock();
+        try {
+            return work.apply(this::table);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The sequence number of the last logged record, which every committed write raises, and when it was logged; the
+     * time the store was opened if nothing has been logged since.
+     */
+    Revision revision() {
+        lock.readLock().lock();
+        try {
+            return new Revision(sequence, loggedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs {@code work} under the write lock and then logs and applies the mutations it staged, as one atomic
+     * record. If {@code work} throws, nothing it staged is written. Inside a transaction the mutations are applied
+     * but only logged when the transaction commits.
+     */
+    <R> R write(Function<Batch, R> work) {
+        Transaction current = transaction.get();
+        if (current != null) {
+            return current.write(work);
+        }
+        lockForWrite();
+        try {
+            Batch batch = new Batch();
+            R result = work.apply(batch);
+            log(batch.mutations);
+            batch.mutations.forEach(this::apply);
+            compactIfDue();
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a transaction on the calling thread: until it ends, that thread's {@link #write}s join it. Taking the
+     * write lock is left to the first write, so a transaction that only reads does not hold up anyone.
+     */
+    Transaction begin() {
+        if (transaction.get() != null) {
+            throw new IllegalStateException("A task store transaction is already running on this thread");
+        }
+        Transaction started = new Transaction();
+        transaction.set(started);
+        return started;
+    }
+
+    /** The calling thread's transaction, or null. */
+    Transaction current() {
+        return transaction.get();
+    }
+
+    /** Detaches the calling thread's transaction, if any, so the thread can run another one; see {@link #resume}. */
+    Transaction suspend() {
+        Transaction suspended = transaction.get();
+        transaction.remove();
+        return suspended;
+    }
+
+    void resume(Transaction suspended) {
+        transaction.set(suspended);
+    }
+
+    /** Writes a snapshot of the tables and empties the log, unless the log is already empty. */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            if (taskLog.size() > 0) {
+                compactLocked();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact the task store", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Bytes of log records written since the last snapshot. */
+    public int logSize() {
+        lock.readLock().lock();
+        try {
+            return taskLog.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Snapshots what the log holds, so the next {@link #open} has nothing to replay, and closes the log. */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (taskLog.size() > 0) {
+                compactLocked();
+            }
+            taskLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private TaskTable table(StoreTable table) {
+        return tables.get(table);
+    }
+
+    /**
+     * Takes the write lock. A thread that already holds it has suspended a transaction that wrote; writing around
+     * that transaction could not be undone separately from it, so it is refused.
+     */
+    private void lockForWrite() {
+        if (lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Cannot write to the task store while a suspended transaction holds it");
+        }
+        lock.writeLock().lock();
+    }
+
+    /** Appends the mutations as the next record; the caller holds the write lock and applies them afterwards. */
+    private void log(List<Mutation> mutations) {
+        if (mutations.isEmpty()) {
+            return;
+        }
+        try {
+            long next = sequence + 1;
+            taskLog.append(encode(next, mutations));
+            sequence = next;
+            loggedAt = LocalDateTime.now();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to the task log", e);
+        }
+    }
+
+    /** Snapshots the tables once the log is long enough; the caller holds the write lock and has no open writes. */
+    private void compactIfDue() {
+        if (taskLog.size() > compactAfterBytes) {
+            try {
+                compactLocked();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not compact the task store", e);
+            }
+        }
+    }
+
+    private void apply(Mutation mutation) {
+        TaskTable table = tables.get(mutation.table());
+        if (mutation.task() != null) {
+            table.put(mutation.task());
+            nextId = Math.max(nextId, mutation.task().id() + 1);
+        } else {
+            table.remove(mutation.id());
+        }
+    }
+
+    private void recover() throws IOException {
+        long snapshotSequence = 0;
+        if (Files.exists(snapshotPath)) {
+            snapshotSequence = readSnapshot();
+        }
+        sequence = snapshotSequence;
+        long covered = snapshotSequence;
+        int replayed = taskLog.replay(record -> {
+            long recordSequence = record.getLong();
+            // Records already in the snapshot are left over from a compaction that stopped before clearing the log.
+            if (recordSequence > covered) {
+                decode(record).forEach(this::apply);
+                sequence = recordSequence;
+            }
+        });
+        // Moves between the tables copy before they delete, so a crash in between leaves a task in both. Whichever
+        // way it was moving, it belongs in the task table: archiving is retried, and a restore was about to write it.
+        TaskTable archive = tables.get(StoreTable.ARCHIVE);
+        for (StoredTask task : tables.get(StoreTable.TASKS).all()) {
+            archive.remove(task.id());
+        }
+        log.info("Task store recovered {} tasks, {} archived tasks and {} tombstones ({} log records replayed)",
+                tables.get(StoreTable.TASKS).size(), archive.size(), tables.get(StoreTable.TOMBSTONES).size(),
+                replayed);
+    }
+
+    /**
+     * Writes the snapshot to a temporary file, forces it to disk and renames it over the previous one, so there is
+     * always one complete snapshot; only then is the log it covers emptied.
+     */
+    private void compactLocked() throws IOException {
+        long start = System.currentTimeMillis();
+        Path temporary = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32 crc = new CRC32();
+            OutputStream stream = Channels.newOutputStream(channel);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(stream), crc));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_FORMAT);
+            out.writeLong(sequence);
+            out.writeLong(nextId);
+            for (StoreTable table : StoreTable.values()) {
+                TaskTable rows = tables.get(table);
+                out.writeInt(rows.size());
+                for (StoredTask task : rows.all()) {
+                    task.write(out);
+                }
+            }
+            out.flush();
+            // The checksum covers everything before it.
+            new DataOutputStream(stream).writeInt((int) crc.getValue());
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        int logSize = taskLog.size();
+        taskLog.reset();
+        log.debug("Compacted {} bytes of task log into a snapshot in {} ms", logSize,
+                System.currentTimeMillis() - start);
+    }
+
+    private long readSnapshot() throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(stream, crc));
+            int format = in.readInt() == SNAPSHOT_MAGIC ? in.readInt() : -1;
+            if (format != 1 && format != SNAPSHOT_FORMAT) {
+                throw new IOException(snapshotPath + " is not a task snapshot of format " + SNAPSHOT_FORMAT);
+            }
+            long snapshotSequence = in.readLong();
+            nextId = in.readLong();
+            int tableCount = format == 1 ? FORMAT_1_TABLES : StoreTable.values().length;
+            for (int t = 0; t < tableCount; t++) {
+                TaskTable rows = tables.get(StoreTable.values()[t]);
+                for (int i = in.readInt(); i > 0; i--) {
+                    rows.put(StoredTask.read(in));
+                }
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(stream).readInt() != expected) {
+                throw new IOException("Task snapshot " + snapshotPath + " is corrupt");
+            }
+            return snapshotSequence;
+        }
+    }
+
+    private static byte[] encode(long sequence, List<Mutation> mutations) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 * mutations.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(sequence);
+        out.writeInt(mutations.size());
+        for (Mutation mutation : mutations) {
+            out.writeByte(mutation.task() != null ? PUT : DELETE);
+            out.writeByte(mutation.table().ordinal());
+            if (mutation.task() != null) {
+                mutation.task().write(out);
+            } else {
+                out.writeLong(mutation.id());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Decodes the mutations of a record whose sequence has already been read. */
+    private static List<Mutation> decode(ByteBuffer record) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(record));
+            int count = in.readInt();
+            List<Mutation> mutations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte op = in.readByte();
+                StoreTable table = StoreTable.values()[in.readByte()];
+                mutations.add(op == PUT
+                        ? new Mutation(table, -1, StoredTask.read(in))
+                        : new Mutation(table, in.readLong(), null));
+            }
+            return mutations;
+        } catch (IOException e) {
+            // The checksum matched, so this is a bug in the encoding rather than a torn write.
+            throw new UncheckedIOException("Unreadable task log record", e);
+        }
+    }
+
+    /** The store's tables, readable inside {@link #read} and {@link #write}. */
+    @FunctionalInterface
+    interface Tables {
+        TaskTable table(StoreTable table);
+    }
+
+    /**
+     * The mutations of one {@link #write}. Reads through the batch see the rows as this batch left them; reads
+     * through {@link #table} see them as they were before it.
+     */
+    final class Batch implements Tables {
+        private final List<Mutation> mutations = new ArrayList<>();
+        private final Map<StoreTable, Map<Long, Optional<StoredTask>>> staged = new EnumMap<>(StoreTable.class);
+
+        private Batch() {
+        }
+
+        @Override
+        public TaskTable table(StoreTable table) {
+            return tables.get(table);
+        }
+
+        public Optional<StoredTask> get(StoreTable table, long id) {
+            Map<Long, Optional<StoredTask>> rows = staged.get(table);
+            Optional<StoredTask> row = rows == null ? null : rows.get(id);
+            return row != null ? row : Optional.ofNullable(tables.get(table).get(id));
+        }
+
+        public void put(StoreTable table, StoredTask task) {
+            mutations.add(new Mutation(table, task.id(), task));
+            staged.computeIfAbsent(table, t -> new HashMap<>()).put(task.id(), Optional.of(task));
+        }
+
+        public void delete(StoreTable table, long id) {
+            mutations.add(new Mutation(table, id, null));
+            staged.computeIfAbsent(table, t -> new HashMap<>()).put(id, Optional.empty());
+        }
+
+        /** A new id, never handed out before. Ids are not reused, even those of rows this batch ends up not writing. */
+        public long nextId() {
+            return nextId++;
+        }
+    }
+
+    /**
+     * The writes of one thread between {@link #begin} and {@link #commit} or {@link #rollback}. Each write is applied
+     * when it is made, with the rows it replaces kept so that a rollback can put them back.
+     */
+    final class Transaction {
+        private final List<Mutation> mutations = new ArrayList<>();
+        private final List<Mutation> undo = new ArrayList<>();
+        private boolean locked;
+        private boolean ended;
+        private boolean rollbackOnly;
+
+        private Transaction() {
+        }
+
+        private <R> R write(Function<Batch, R> work) {
+            if (!locked) {
+                lockForWrite();
+                locked = true;
+            }
+            Batch batch = new Batch();
+            R result = work.apply(batch);
+            for (Mutation mutation : batch.mutations) {
+                TaskTable rows = tables.get(mutation.table());
+                undo.add(new Mutation(mutation.table(), mutation.id(), rows.get(mutation.id())));
+                apply(mutation);
+            }
+            mutations.addAll(batch.mutations);
+            return result;
+        }
+
+        /** Logs the transaction's writes as one record and releases the write lock. */
+        void commit() {
+            if (!end()) {
+                return;
+            }
+            try {
+                try {
+                    log(mutations);
+                } catch (RuntimeException e) {
+                    undo();
+                    throw e;
+                }
+                compactIfDue();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /** Puts back every row the transaction changed and releases the write lock. */
+        void rollback() {
+            if (!end()) {
+                return;
+            }
+            try {
+                undo();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean isRollbackOnly() {
+            return rollbackOnly;
+        }
+
+        void setRollbackOnly() {
+            rollbackOnly = true;
+        }
+
+        /** Detaches the transaction from the thread, once; returns whether it holds the write lock. */
+        private boolean end() {
+            if (ended) {
+                return false;
+            }
+            ended = true;
+            if (transaction.get() == this) {
+                transaction.remove();
+            }
+            return locked;
+        }
+
+        private void undo() {
+            for (int i = undo.size() - 1; i >= 0; i--) {
+                apply(undo.get(i));
+            }
+        }
+    }
+
+    /** See {@link #revision}. Sequence numbers carry over snapshots and restarts, so they are never reused. */
+    record Revision(long sequence, LocalDateTime loggedAt) {
+    }
+
+    /** Puts {@code task} into {@code table}, or deletes {@code id} from it when {@code task} is null. */
+    private record Mutation(StoreTable table, long id, StoredTask task) {
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskSortField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * The rows of one table, by id, with secondary indexes on status, priority, due date, creation and update time. The
+ * date indexes are ordered by (date, id) with NULL lowest, the order the JPA listings get from MySQL, so keyset pages
+ * are read straight from them. Rows without a status or priority (tombstones) are left out of those two indexes.
+ * <p>
+ * Not thread-safe; the {@link TaskStore} lock guards every access.
+ */
+final class TaskTable {
+    private static final Comparator<StoredTask> BY_DUE_DATE = Comparator
+            .comparing(StoredTask::dueDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparingLong(StoredTask::id);
+    private static final Comparator<StoredTask> BY_CREATED_AT = Comparator
+            .comparing(StoredTask::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(StoredTask::id);
+    private static final Comparator<StoredTask> BY_UPDATED_AT = Comparator
+            .comparing(StoredTask::updatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(StoredTask::id);
+
+    private final TreeMap<Long, StoredTask> byId = new TreeMap<>();
+    private final Map<TaskStatus, TreeSet<Long>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, TreeSet<Long>> byPriority = new EnumMap<>(Priority.class);
+    private final TreeSet<StoredTask> byDueDate = new TreeSet<>(BY_DUE_DATE);
+    private final TreeSet<StoredTask> byCreatedAt = new TreeSet<>(BY_CREATED_AT);
+    private final TreeSet<StoredTask> byUpdatedAt = new TreeSet<>(BY_UPDATED_AT);
+
+    TaskTable() {
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new TreeSet<>());
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, new TreeSet<>());
+        }
+    }
+
+    void put(StoredTask task) {
+        StoredTask previous = byId.put(task.id(), task);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (task.status() != null) {
+            byStatus.get(task.status()).add(task.id());
+        }
+        if (task.priority() != null) {
+            byPriority.get(task.priority()).add(task.id());
+        }
+        byDueDate.add(task);
+        byCreatedAt.add(task);
+        byUpdatedAt.add(task);
+    }
+
+    StoredTask remove(long id) {
+        StoredTask previous = byId.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+        return previous;
+    }
+
+    StoredTask get(long id) {
+        return byId.get(id);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    /** Every row in id order. */
+    Collection<StoredTask> all() {
+        return byId.values();
+    }
+
+    /** Rows with an id above {@code afterId}, in id order, at most {@code maxResults}. */
+    List<StoredTask> afterId(long afterId, int maxResults) {
+        return byId.tailMap(afterId, false).values().stream().limit(maxResults).toList();
+    }
+
+    /** The rows with the given ids that exist, in the order of the ids. */
+    List<StoredTask> getAll(Collection<Long> ids) {
+        List<StoredTask> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            StoredTask task = byId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    List<StoredTask> withStatus(TaskStatus status) {
+        return getAll(byStatus.get(status));
+    }
+
+    /** Rows updated at or after {@code since}, in (update time, id) order, at most {@code maxResults}. */
+    List<StoredTask> updatedSince(LocalDateTime since, int maxResults) {
+        List<StoredTask> tasks = new ArrayList<>(Math.min(maxResults, 256));
+        for (StoredTask task : byUpdatedAt.tailSet(StoredTask.probeUpdatedAt(Long.MIN_VALUE, since), true)) {
+            if (tasks.size() == maxResults) {
+                break;
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /** Rows updated before {@code before}, in (update time, id) order. */
+    List<StoredTask> updatedBefore(LocalDateTime before) {
+        return new ArrayList<>(byUpdatedAt.headSet(StoredTask.probeUpdatedAt(Long.MIN_VALUE, before), false));
+    }
+
+    /**
+     * Keyset listing: walks the index of the sort key in the query's direction from just past the cursor, keeping
+     * rows that pass the filters, until {@code maxResults} rows are found.
+     */
+    List<StoredTask> page(TaskPageQuery query, int maxResults) {
+        NavigableSet<StoredTask> index = query.getSort() == TaskSortField.CREATED_AT ? byCreatedAt : byDueDate;
+        NavigableSet<StoredTask> ordered = query.isAscending() ? index : index.descendingSet();
+        TaskCursor after = query.getAfter();
+        if (after != null) {
+            ordered = ordered.tailSet(probe(after), false);
+        }
+        Predicate<StoredTask> filter = filter(query.getStatus(), query.getPriority(), query.getDueBefore());
+        List<StoredTask> tasks = new ArrayList<>(Math.min(maxResults, 256));
+        for (StoredTask task : ordered) {
+            if (tasks.size() == maxResults) {
+                break;
+            }
+            if (filter.test(task)) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Rows matching every given filter with an id above {@code afterId} (any when {@code null}), in id order, at most
+     * {@code maxResults}. Reads the status or priority index when one of them is filtered on.
+     */
+    List<StoredTask> matching(TaskStatus status, Priority priority, LocalDate dueBefore, Long afterId,
+                              int maxResults) {
+        long after = afterId == null ? Long.MIN_VALUE : afterId;
+        Collection<Long> candidates = status != null ? byStatus.get(status).tailSet(after, false)
+                : priority != null ? byPriority.get(priority).tailSet(after, false)
+                : byId.tailMap(after, false).keySet();
+        Predicate<StoredTask> filter = filter(status, priority, dueBefore);
+        List<StoredTask> tasks = new ArrayList<>(Math.min(maxResults, 256));
+        for (Long id : candidates) {
+            if (tasks.size() == maxResults) {
+                break;
+            }
+            StoredTask task = byId.get(id);
+            if (filter.test(task)) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /** Row counts per status and priority combination, zero counts left out. */
+    Map<TaskStatus, Map<Priority, Long>> countByStatusAndPriority() {
+        Map<TaskStatus, Map<Priority, Long>> counts = new EnumMap<>(TaskStatus.class);
+        for (Map.Entry<TaskStatus, TreeSet<Long>> status : byStatus.entrySet()) {
+            for (Long id : status.getValue()) {
+                counts.computeIfAbsent(status.getKey(), s -> new EnumMap<>(Priority.class))
+                        .merge(byId.get(id).priority(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /** Counts of rows that are not completed, per due date, for rows that have one. */
+    TreeMap<LocalDate, Long> countOpenByDueDate() {
+        TreeMap<LocalDate, Long> counts = new TreeMap<>();
+        for (StoredTask task : byDueDate) {
+            if (task.dueDate() != null && task.status() != TaskStatus.COMPLETED) {
+                counts.merge(task.dueDate(), 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private void unindex(StoredTask task) {
+        if (task.status() != null) {
+            byStatus.get(task.status()).remove(task.id());
+        }
+        if (task.priority() != null) {
+            byPriority.get(task.priority()).remove(task.id());
+        }
+        byDueDate.remove(task);
+        byCreatedAt.remove(task);
+        byUpdatedAt.remove(task);
+    }
+
+    private static StoredTask probe(TaskCursor cursor) {
+        return switch (cursor.getSort()) {
+            case CREATED_AT -> StoredTask.probe(cursor.getId(), (LocalDateTime) cursor.getValue(), null);
+            case DUE_DATE -> StoredTask.probe(cursor.getId(), null, (LocalDate) cursor.getValue());
+        };
+    }
+
+    private static Predicate<StoredTask> filter(TaskStatus status, Priority priority, LocalDate dueBefore) {
+        return task -> (status == null || task.status() == status)
+                && (priority == null || task.priority() == priority)
+                && (dueBefore == null || (task.dueDate() != null && task.dueDate().isBefore(dueBefore)));
+    }
+}
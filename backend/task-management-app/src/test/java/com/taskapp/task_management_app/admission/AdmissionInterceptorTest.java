@@ -0,0 +1,77 @@
+package com.taskapp.task_management_app.admission;
+
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How long asynchronous requests hold their permit: a streamed body until it is written, an event stream only while
+ * subscribing.
+ */
+class AdmissionInterceptorTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdmissionInterceptor interceptor = new AdmissionInterceptor(limiter());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void aStreamedBodyKeepsItsPermitUntilTheAsyncDispatchCompletes() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "export");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        assertThat(inFlight("scans")).isOne();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        assertThat(inFlight("scans")).isOne();
+        interceptor.afterCompletion(request, response, handler, null);
+        assertThat(inFlight("scans")).isZero();
+        assertThat(inFlight("reads")).isZero();
+    }
+
+    @Test
+    void anEventStreamReleasesItsPermitOnceSubscribed() throws Exception {
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "events");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, handler);
+        assertThat(inFlight("reads")).isOne();
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        assertThat(inFlight("reads")).isZero();
+    }
+
+    private AdmissionLimiter limiter() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setReads(new AdmissionProperties.Lane(4, 1, Duration.ZERO));
+        properties.setScans(new AdmissionProperties.Lane(2, 1, Duration.ZERO));
+        properties.setWrites(new AdmissionProperties.Lane(1, 1, Duration.ZERO));
+        return new AdmissionLimiter(properties, registry);
+    }
+
+    private double inFlight(String lane) {
+        return registry.get("task.admission.in.flight").tag("lane", lane).gauge().value();
+    }
+
+    static class Handlers {
+        @Admitted(AdmissionClass.SCAN)
+        public StreamingResponseBody export() {
+            return out -> { };
+        }
+
+        @Admitted(AdmissionClass.READ)
+        public SseEmitter events() {
+            return new SseEmitter();
+        }
+    }
+}
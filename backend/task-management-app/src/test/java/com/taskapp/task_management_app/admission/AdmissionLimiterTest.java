@@ -0,0 +1,111 @@
+package com.taskapp.task_management_app.admission;
+
+import com.taskapp.task_management_app.enums.AdmissionClass;
+import com.taskapp.task_management_app.exception.TaskOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionLimiterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void pointReadsKeepTheirShareWhileScansAreSaturated() {
+        AdmissionLimiter limiter = limiter(Duration.ZERO);
+        AdmissionLimiter.Permit scan1 = limiter.admit(AdmissionClass.SCAN);
+        AdmissionLimiter.Permit scan2 = limiter.admit(AdmissionClass.SCAN);
+
+        assertThatThrownBy(() -> limiter.admit(AdmissionClass.SCAN))
+                .isInstanceOf(TaskOverloadedException.class)
+                .satisfies(ex -> assertThat(((TaskOverloadedException) ex).getRetryAfter()).hasSeconds(2));
+        AdmissionLimiter.Permit read1 = limiter.admit(AdmissionClass.READ);
+        AdmissionLimiter.Permit read2 = limiter.admit(AdmissionClass.READ);
+        assertThatThrownBy(() -> limiter.admit(AdmissionClass.READ)).isInstanceOf(TaskOverloadedException.class);
+
+        assertThat(inFlight("reads")).isEqualTo(4);
+        assertThat(inFlight("scans")).isEqualTo(2);
+        assertThat(shed("scan", "timeout") + shed("read", "timeout")).isEqualTo(2);
+
+        scan1.close();
+        scan2.close();
+        read1.close();
+        read2.close();
+        assertThat(inFlight("reads")).isZero();
+        assertThat(inFlight("scans")).isZero();
+    }
+
+    @Test
+    void aScanThatCannotGetAReadPermitGivesBackItsScanPermit() {
+        AdmissionLimiter limiter = limiter(Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            limiter.admit(AdmissionClass.READ);
+        }
+
+        assertThatThrownBy(() -> limiter.admit(AdmissionClass.SCAN)).isInstanceOf(TaskOverloadedException.class);
+        assertThat(inFlight("scans")).isZero();
+    }
+
+    @Test
+    void writesAreLimitedIndependentlyOfReads() {
+        AdmissionLimiter limiter = limiter(Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            limiter.admit(AdmissionClass.READ);
+        }
+
+        AdmissionLimiter.Permit write = limiter.admit(AdmissionClass.WRITE);
+        assertThatThrownBy(() -> limiter.admit(AdmissionClass.WRITE)).isInstanceOf(TaskOverloadedException.class);
+
+        write.close();
+        write.close();
+        assertThat(inFlight("writes")).isZero();
+        limiter.admit(AdmissionClass.WRITE);
+    }
+
+    @Test
+    void aQueuedRequestIsAdmittedWhenAPermitIsReleased() throws Exception {
+        AdmissionLimiter limiter = limiter(Duration.ofSeconds(10));
+        AdmissionLimiter.Permit write = limiter.admit(AdmissionClass.WRITE);
+
+        CompletableFuture<AdmissionLimiter.Permit> queued = CompletableFuture.supplyAsync(
+                () -> limiter.admit(AdmissionClass.WRITE));
+        while (queued("writes") == 0) {
+            Thread.onSpinWait();
+        }
+        // The one queue slot is taken, so the next request is shed without waiting.
+        assertThatThrownBy(() -> limiter.admit(AdmissionClass.WRITE)).isInstanceOf(TaskOverloadedException.class);
+        assertThat(shed("write", "queue_full")).isEqualTo(1);
+
+        write.close();
+        queued.get(5, TimeUnit.SECONDS).close();
+        assertThat(queued("writes")).isZero();
+        assertThat(registry.get("task.admission.wait").tag("class", "write").timer().count()).isEqualTo(2);
+    }
+
+    private AdmissionLimiter limiter(Duration queueTimeout) {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setReads(new AdmissionProperties.Lane(4, 1, queueTimeout));
+        properties.setScans(new AdmissionProperties.Lane(2, 1, queueTimeout));
+        properties.setWrites(new AdmissionProperties.Lane(1, 1, queueTimeout));
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        return new AdmissionLimiter(properties, registry);
+    }
+
+    private double inFlight(String lane) {
+        return registry.get("task.admission.in.flight").tag("lane", lane).gauge().value();
+    }
+
+    private double queued(String lane) {
+        return registry.get("task.admission.queued").tag("lane", lane).gauge().value();
+    }
+
+    private double shed(String admissionClass, String reason) {
+        return registry.get("task.admission.shed").tag("class", admissionClass).tag("reason", reason)
+                .counter().count();
+    }
+}
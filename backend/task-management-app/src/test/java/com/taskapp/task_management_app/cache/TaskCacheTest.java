@@ -0,0 +1,75 @@
+package com.taskapp.task_management_app.cache;
+
+import com.taskapp.task_management_app.config.CacheConfig;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The task cache hands out copies, serves them only while their version is current and never keeps a task that a
+ * concurrent write has already evicted.
+ */
+class TaskCacheTest {
+
+    private final TaskCache cache = new TaskCache(new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE));
+
+    @Test
+    void hitsHandOutCopiesOfTheCachedTask() {
+        cache.get(1L, () -> 0L, () -> task(1L, TaskStatus.TODO));
+
+        Task first = cache.get(1L, () -> 0L, () -> task(1L, TaskStatus.COMPLETED));
+        first.setStatus(TaskStatus.IN_PROGRESS);
+
+        assertThat(cache.get(1L, () -> 0L, () -> task(1L, TaskStatus.COMPLETED)).getStatus())
+                .isEqualTo(TaskStatus.TODO);
+    }
+
+    @Test
+    void aReadRacingAnEvictionDoesNotCacheWhatItLoaded() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // The write commits and evicts while the read is loading the row it had before.
+        cache.get(1L, () -> 0L, () -> {
+            loads.incrementAndGet();
+            cache.evict(1L);
+            return task(1L, TaskStatus.TODO);
+        });
+        Task next = cache.get(1L, () -> 0L, () -> {
+            loads.incrementAndGet();
+            return task(1L, TaskStatus.COMPLETED);
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(next.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void aTaskChangedElsewhereIsReloaded() {
+        cache.get(1L, () -> 0L, () -> task(1L, TaskStatus.TODO));
+
+        // Another instance wrote version 1; nothing evicted this instance's copy.
+        Task reloaded = cache.get(1L, () -> 1L, () -> {
+            Task task = task(1L, TaskStatus.COMPLETED);
+            task.setVersion(1L);
+            return task;
+        });
+
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(cache.get(1L, () -> 1L, () -> task(1L, TaskStatus.TODO)).getStatus())
+                .isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    private static Task task(Long id, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setVersion(0L);
+        return task;
+    }
+}
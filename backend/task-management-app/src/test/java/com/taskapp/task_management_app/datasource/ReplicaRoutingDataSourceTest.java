@@ -0,0 +1,141 @@
+package com.taskapp.task_management_app.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes between separate embedded databases, each of which answers with its own name, the way the application
+ * wires them: the transaction manager talks to a lazy proxy in front of the routing data source.
+ */
+class ReplicaRoutingDataSourceTest {
+    private final Map<String, StoppableDataSource> replicas = new LinkedHashMap<>();
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replicas.put("replica-1", new StoppableDataSource(database("replica-1")));
+        replicas.put("replica-2", new StoppableDataSource(database("replica-2")));
+
+        routing = new ReplicaRoutingDataSource(primary, new LinkedHashMap<>(replicas));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouting.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsAreSpreadOverTheReplicas() {
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            served.add(readOnlyNode());
+        }
+
+        assertThat(served).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @Test
+    void writesAndNonTransactionalReadsUseThePrimary() {
+        String node = readWrite.execute(status -> node());
+        assertThat(node).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void pinnedReadsUseThePrimary() {
+        assertThat(ReplicaRouting.onPrimary(() -> readOnlyNode())).isEqualTo("primary");
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    @Test
+    void failedReplicaLeavesTheRotationUntilTheHealthCheckSeesItAgain() {
+        replicas.get("replica-1").stopped = true;
+
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            served.add(readOnlyNode());
+        }
+        // The read that hit the stopped replica fell back to the primary; the rest went to the healthy one.
+        assertThat(served).doesNotContain("replica-1").contains("replica-2");
+        assertThat(routing.getReplicaStatus().get("replica-1")).isFalse();
+
+        routing.checkReplicas();
+        assertThat(routing.getReplicaStatus().get("replica-1")).isFalse();
+
+        replicas.get("replica-1").stopped = false;
+        routing.checkReplicas();
+        assertThat(routing.getReplicaStatus().get("replica-1")).isTrue();
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenNoReplicaIsHealthy() {
+        replicas.values().forEach(replica -> replica.stopped = true);
+        routing.checkReplicas();
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /** A replica that can be taken offline. */
+    private static class StoppableDataSource extends DelegatingDataSource {
+        private volatile boolean stopped;
+
+        StoppableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (stopped) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskapp.task_management_app.dto.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.taskapp.task_management_app.dto.TaskListView;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The direct serializer must produce exactly the bytes the TaskResponseDTO path produces with the application's
+ * ObjectMapper, including nulls, escaping and the due-date flags on both sides of their boundaries.
+ */
+@JsonTest
+class TaskJsonSerializerTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void writesTheSameJsonAsTheResponseDto() throws Exception {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        ObjectMapper direct = objectMapper.copy()
+                .registerModule(new SimpleModule().addSerializer(Task.class, new TaskJsonSerializer(clock)));
+        TaskMapper taskMapper = new TaskMapper();
+
+        List<Task> tasks = new ArrayList<>();
+        long id = 1;
+        for (TaskStatus status : TaskStatus.values()) {
+            for (int offset = -1; offset <= 4; offset++) {
+                tasks.add(task(id++, status, Priority.values()[(offset + 1) % Priority.values().length], TODAY.plusDays(offset)));
+            }
+            tasks.add(task(id++, status, Priority.LOW, null));
+        }
+        Task unsaved = task(null, TaskStatus.TODO, Priority.HIGH, null);
+        unsaved.setTitle("Quote \" backslash \\ tab \t unicode é中 🚀");
+        unsaved.setDescription(null);
+        unsaved.setCreatedAt(null);
+        unsaved.setUpdatedAt(null);
+        tasks.add(unsaved);
+        Task farFuture = task(id, TaskStatus.TODO, Priority.LOW, LocalDate.of(12025, 1, 31));
+        farFuture.setCreatedAt(LocalDateTime.of(10000, 12, 1, 0, 0));
+        tasks.add(farFuture);
+
+        List<Object> dtos = new ArrayList<>();
+        for (Task task : tasks) {
+            dtos.add(taskMapper.toResponseDTO(task, TODAY));
+            assertThat(direct.writeValueAsString(task))
+                    .isEqualTo(objectMapper.writeValueAsString(taskMapper.toResponseDTO(task, TODAY)));
+        }
+        assertThat(direct.writeValueAsBytes(tasks)).isEqualTo(objectMapper.writeValueAsBytes(dtos));
+    }
+
+    @Test
+    void writesOnlyTheRequestedFieldsInResponseOrder() throws Exception {
+        Task task = task(7L, TaskStatus.TODO, Priority.HIGH, TODAY.minusDays(1));
+
+        String json = objectMapper.writeValueAsString(
+                new TaskListView(List.of(task), TaskField.parse("overdue, status,title")));
+
+        assertThat(json).isEqualTo("[{\"id\":7,\"title\":\"Task 7\",\"status\":\"TODO\",\"overdue\":true}]");
+    }
+
+    private static Task task(Long id, TaskStatus status, Priority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of task " + id);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000));
+        task.setUpdatedAt(LocalDateTime.of(2025, 3, 9, 23, 59, 59));
+        task.setVersion(2L);
+        return task;
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskapp.task_management_app.event;
+
+import com.taskapp.task_management_app.repository.JpaTaskCollectionStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The collection stamp moves once per committed transaction that changes tasks, and only then. Runs outside the
+ * test transaction so the writing transactions really commit.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskCollectionVersionTest {
+
+    @Autowired
+    private JpaTaskCollectionStateRepository stateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCollectionVersion collectionVersion;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        collectionVersion = new TaskCollectionVersion(stateRepository, transactionManager, Duration.ofSeconds(5));
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void aCommittedChangeMovesTheStampOnce() {
+        String before = collectionVersion.current().etag();
+        assertThat(collectionVersion.current().etag()).isEqualTo(before);
+        long version = stateRepository.findCurrent().getVersion();
+
+        transaction.executeWithoutResult(status -> {
+            collectionVersion.onTaskChanged(TaskChangedEvent.archived(1L));
+            collectionVersion.onTaskChanged(TaskChangedEvent.archived(2L));
+        });
+
+        TaskCollectionVersion.Stamp changed = collectionVersion.current();
+        assertThat(changed.etag()).isNotEqualTo(before);
+        assertThat(stateRepository.findCurrent().getVersion()).isEqualTo(version + 1);
+        // Just written, so replicas may not have it yet.
+        assertThat(changed.settled()).isFalse();
+    }
+
+    @Test
+    void aRolledBackChangeLeavesTheStamp() {
+        String before = collectionVersion.current().etag();
+
+        transaction.executeWithoutResult(status -> {
+            collectionVersion.onTaskChanged(TaskChangedEvent.archived(1L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(collectionVersion.current().etag()).isEqualTo(before);
+    }
+
+    @Test
+    void changesMustBePublishedInsideTheirTransaction() {
+        assertThatThrownBy(() -> collectionVersion.onTaskChanged(TaskChangedEvent.archived(1L)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskapp.task_management_app.ingest;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCreateBatcherTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong nextId = new AtomicLong(1);
+    /** Sizes of the createTasks calls; createTask calls are recorded as 1. */
+    private final List<Integer> writes = new CopyOnWriteArrayList<>();
+    private TaskCreateBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null && batcher.isRunning()) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    void concurrentCreatesAreWrittenInOneBatch() throws Exception {
+        batcher = start(5, Duration.ofSeconds(10));
+
+        List<CompletableFuture<Task>> created = IntStream.range(0, 5)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> batcher.create(task("Task " + i))))
+                .toList();
+
+        for (int i = 0; i < 5; i++) {
+            Task task = created.get(i).get(5, TimeUnit.SECONDS);
+            assertThat(task.getId()).isNotNull();
+            assertThat(task.getTitle()).isEqualTo("Task " + i);
+        }
+        assertThat(writes).containsExactly(5);
+        assertThat(registry.get("task.create.batch.size").summary().max()).isEqualTo(5);
+        assertThat(registry.get("task.create.batch.linger").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void aCreateArrivingAloneIsWrittenAfterTheLinger() {
+        batcher = start(100, Duration.ofMillis(5));
+
+        Task task = batcher.create(task("Alone"));
+
+        assertThat(task.getId()).isNotNull();
+        assertThat(writes).containsExactly(1);
+    }
+
+    @Test
+    void aFailedBatchIsRetriedOneCreateAtATime() throws Exception {
+        batcher = start(2, Duration.ofSeconds(10));
+
+        CompletableFuture<Task> good = CompletableFuture.supplyAsync(() -> batcher.create(task("Good")));
+        CompletableFuture<Task> bad = CompletableFuture.supplyAsync(() -> batcher.create(task("Bad")));
+
+        assertThat(good.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Rejected: Bad");
+        assertThat(writes).containsExactly(1);
+    }
+
+    @Test
+    void createsGoStraightToTheServiceWhenNotRunning() {
+        batcher = new TaskCreateBatcher(taskService(), properties(10, Duration.ofSeconds(10)), registry);
+
+        assertThat(batcher.create(task("Direct")).getId()).isNotNull();
+        assertThat(writes).containsExactly(1);
+    }
+
+    private TaskCreateBatcher start(int maxBatchSize, Duration linger) {
+        TaskCreateBatcher started = new TaskCreateBatcher(taskService(), properties(maxBatchSize, linger), registry);
+        started.start();
+        return started;
+    }
+
+    private CreateBatchingProperties properties(int maxBatchSize, Duration linger) {
+        CreateBatchingProperties properties = new CreateBatchingProperties();
+        properties.setMaxBatchSize(maxBatchSize);
+        properties.setLinger(linger);
+        return properties;
+    }
+
+    /** Saves by assigning ids; rejects tasks titled "Bad", failing any batch that contains one. */
+    private TaskService taskService() {
+        return (TaskService) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{TaskService.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "createTask" -> {
+                        Task task = save((Task) args[0]);
+                        writes.add(1);
+                        yield task;
+                    }
+                    case "createTasks" -> {
+                        @SuppressWarnings("unchecked")
+                        List<Task> tasks = (List<Task>) args[0];
+                        List<Task> saved = tasks.stream().map(this::save).toList();
+                        writes.add(saved.size());
+                        yield saved;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private Task save(Task task) {
+        if (task.getTitle().equals("Bad")) {
+            throw new IllegalStateException("Rejected: Bad");
+        }
+        task.setId(nextId.getAndIncrement());
+        return task;
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskapp.task_management_app.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Captures the SQL Hibernate sends so tests can look at the database's plan for it.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static String lastSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            if (STATEMENTS.get(i).trim().toLowerCase().startsWith("select")) {
+                return STATEMENTS.get(i);
+            }
+        }
+        throw new IllegalStateException("No SELECT statement was recorded");
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The batched insert of bulk creates against the embedded database's IDENTITY column.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryCustomImplTest {
+
+    @Autowired
+    private JpaTaskRepository taskRepository;
+
+    @Test
+    void insertAllWritesTheGeneratedIdsBackInOrder() {
+        Task single = taskRepository.saveAndFlush(task("Single"));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(task("Bulk " + i));
+        }
+
+        List<Task> inserted = taskRepository.insertAll(tasks);
+
+        assertThat(inserted).extracting(Task::getId).doesNotContainNull().isSorted().doesNotHaveDuplicates();
+        assertThat(inserted.get(0).getId()).isGreaterThan(single.getId());
+        assertThat(inserted).allSatisfy(task -> {
+            assertThat(task.getVersion()).isZero();
+            assertThat(task.getCreatedAt()).isNotNull().isEqualTo(task.getUpdatedAt());
+        });
+        Task last = inserted.get(inserted.size() - 1);
+        assertThat(taskRepository.findById(last.getId())).get()
+                .extracting(Task::getTitle, Task::getStatus, Task::getPriority)
+                .containsExactly("Bulk 119", TaskStatus.TODO, Priority.HIGH);
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(Priority.HIGH);
+        return task;
+    }
+}
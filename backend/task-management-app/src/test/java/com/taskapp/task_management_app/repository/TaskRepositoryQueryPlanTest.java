@@ -0,0 +1,207 @@
+package com.taskapp.task_management_app.repository;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskSortField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every filtered TaskRepository query against the embedded database and fails when its plan
+ * falls back to a full table scan, so new queries cannot silently lose index coverage.
+ * <p>
+ * {@code findAll} and the export stream read the whole table by design, and
+ * {@code findByTitleContainingIgnoreCase} is a {@code LIKE '%kw%'} match that no B-tree index can serve.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.taskapp.task_management_app.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskRepositoryQueryPlanTest {
+
+    @Autowired
+    private JpaTaskRepository taskRepository;
+
+    @Autowired
+    private JpaArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private JpaTaskCollectionStateRepository collectionStateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setPriority(Priority.values()[i % Priority.values().length]);
+            task.setDueDate(i % 4 == 0 ? null : LocalDate.now().plusDays(i % 30 - 15));
+            tasks.add(task);
+        }
+        taskRepository.saveAllAndFlush(tasks);
+        jdbcTemplate.execute("ANALYZE");
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void findByStatusUsesIndex() {
+        taskRepository.findByStatus(TaskStatus.TODO);
+        assertIndexed();
+    }
+
+    @Test
+    void findByPriorityUsesIndex() {
+        taskRepository.findByPriority(Priority.HIGH);
+        assertIndexed();
+    }
+
+    @Test
+    void findByDueDateBeforeUsesIndex() {
+        taskRepository.findByDueDateBefore(LocalDate.now().minusDays(10));
+        assertIndexed();
+    }
+
+    @Test
+    void findByStatusAndPriorityUsesIndex() {
+        taskRepository.findByStatusAndPriority(TaskStatus.IN_PROGRESS, Priority.LOW);
+        assertIndexed();
+    }
+
+    @Test
+    void findOverdueTasksUsesIndex() {
+        taskRepository.findOverdueTasks();
+        assertIndexed();
+    }
+
+    @Test
+    void findTasksCreatedSinceUsesIndex() {
+        taskRepository.findTasksCreatedSince(LocalDateTime.now().minusHours(1));
+        assertIndexed();
+    }
+
+    @Test
+    void findPageByCreatedAtUsesIndex() {
+        taskRepository.findPage(TaskPageQuery.builder().direction(Sort.Direction.ASC).build(), 51);
+        assertIndexed();
+    }
+
+    @Test
+    void findPageByCreatedAtAfterCursorUsesIndex() {
+        TaskCursor cursor = new TaskCursor(TaskSortField.CREATED_AT, Sort.Direction.DESC, LocalDateTime.now(), 100L);
+        taskRepository.findPage(TaskPageQuery.builder().after(cursor).build(), 51);
+        assertIndexed();
+    }
+
+    @Test
+    void findPageByDueDateWithStatusFilterUsesIndex() {
+        TaskPageQuery query = TaskPageQuery.builder()
+                .status(TaskStatus.TODO)
+                .sort(TaskSortField.DUE_DATE)
+                .direction(Sort.Direction.ASC)
+                .build();
+        taskRepository.findPage(query, 51);
+        assertIndexed();
+    }
+
+    @Test
+    void countByStatusAndPriorityUsesIndex() {
+        taskRepository.countByStatusAndPriority();
+        assertIndexed();
+    }
+
+    @Test
+    void countOpenByDueDateUsesIndex() {
+        taskRepository.countOpenByDueDate();
+        assertIndexed();
+    }
+
+    @Test
+    void findArchivableIdsUsesIndex() {
+        taskRepository.findArchivableIds(LocalDateTime.now().minusDays(30), 500);
+        assertIndexed();
+    }
+
+    @Test
+    void findChangedSinceUsesIndex() {
+        taskRepository.findChangedSince(LocalDateTime.now().minusMinutes(5), Limit.of(5001));
+        assertIndexed();
+    }
+
+    @Test
+    void findArchivedPageUsesIndex() {
+        archiveEveryTask();
+        taskRepository.findArchivedPage(TaskPageQuery.builder().direction(Sort.Direction.ASC).build(), 51);
+        assertIndexed();
+    }
+
+    @Test
+    void countArchivedByStatusAndPriorityUsesIndex() {
+        archivedTaskRepository.countByStatusAndPriority();
+        assertIndexed();
+    }
+
+    @Test
+    void findVersionByIdIsAPrimaryKeyLookup() {
+        taskRepository.findVersionById(1L);
+        assertIndexed();
+    }
+
+    @Test
+    void findCollectionStateIsAPrimaryKeyLookup() {
+        collectionStateRepository.findCurrent();
+        assertIndexed();
+    }
+
+    @Test
+    void findAllProjectedSelectsOnlyTheColumnsOfTheRequestedFields() {
+        List<Task> tasks = taskRepository.findAllProjected(TaskField.parse("title,overdue"));
+
+        String sql = RecordingStatementInspector.lastSelect().toLowerCase();
+        String selectList = sql.substring(0, sql.indexOf(" from "));
+        assertThat(selectList).contains("title", "due_date", "status").doesNotContain("description", "created_at");
+        assertThat(tasks).hasSizeGreaterThanOrEqualTo(200).allSatisfy(task -> {
+            assertThat(task.getId()).isNotNull();
+            assertThat(task.getTitle()).isNotNull();
+            assertThat(task.getDescription()).isNull();
+        });
+    }
+
+    private void archiveEveryTask() {
+        List<Long> ids = taskRepository.findAll().stream().map(Task::getId).toList();
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        jdbcTemplate.execute("ANALYZE");
+        RecordingStatementInspector.clear();
+    }
+
+    /**
+     * Explains the last SELECT Hibernate issued. H2 plans parameterised statements without bound values.
+     */
+    private void assertIndexed() {
+        String sql = RecordingStatementInspector.lastSelect();
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan)
+                .as("Query plan for:%n%s", sql)
+                .doesNotContainIgnoringCase("tableScan");
+    }
+}
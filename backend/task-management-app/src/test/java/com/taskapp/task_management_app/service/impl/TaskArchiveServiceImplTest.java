@@ -0,0 +1,151 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.entity.JobLock;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.exception.TaskNotFoundException;
+import com.taskapp.task_management_app.query.TaskPage;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Archives against the embedded database and checks that archived tasks stay readable, are listed only with
+ * includeArchived, and move back into the task table when written.
+ */
+class TaskArchiveServiceImplTest extends TaskServiceTestSupport {
+    private static final int TASKS = 7;
+
+    private TaskArchiveServiceImpl archiveService;
+    private final List<Long> oldCompleted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // A chunk size below the number of archivable tasks makes the job take several chunks.
+        archiveService = archiveService(Duration.ofDays(30), 2);
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(i < 5 ? TaskStatus.COMPLETED : TaskStatus.TODO);
+            Long id = taskRepository.saveAndFlush(task).getId();
+            // Tasks 0-3 were completed long ago, task 4 recently.
+            if (i < 4) {
+                jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                        LocalDateTime.now().minusDays(40 + i), id);
+                oldCompleted.add(id);
+            }
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void archivesOnlyTasksCompletedBeforeTheMinimumAge() {
+        assertThat(archiveService.archiveCompletedTasks()).isEqualTo(4);
+
+        assertThat(archivedTaskRepository.findAllById(oldCompleted)).hasSize(4);
+        assertThat(taskRepository.findAllById(oldCompleted)).isEmpty();
+        assertThat(taskRepository.count()).isEqualTo(TASKS - 4);
+        assertThat(archiveService.archiveCompletedTasks()).isZero();
+    }
+
+    @Test
+    void skipsTheRunWhileAnotherInstanceHoldsTheLease() {
+        assertThat(jobLockRepository.acquire(TaskArchiveServiceImpl.JOB_NAME, "other-instance", 60)).isOne();
+
+        assertThat(archiveService.archiveCompletedTasks()).isZero();
+        assertThat(taskRepository.findAllById(oldCompleted)).hasSize(4);
+
+        // Once the other instance lets go, the next run archives and gives the lease back.
+        jobLockRepository.release(TaskArchiveServiceImpl.JOB_NAME, "other-instance");
+        assertThat(archiveService.archiveCompletedTasks()).isEqualTo(4);
+        assertThat(jobLockRepository.findById(TaskArchiveServiceImpl.JOB_NAME)).get()
+                .extracting(JobLock::getLockedBy).isNull();
+    }
+
+    @Test
+    void archivedTasksAreFoundByIdAndListedOnlyWhenIncluded() {
+        archiveService.archiveCompletedTasks();
+
+        Task archived = taskService.getTaskById(oldCompleted.get(0));
+        assertThat(archived.getTitle()).isEqualTo("Task 0");
+        assertThat(archived.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+
+        assertThat(taskService.getAllTasks(TaskField.parse(null), false)).hasSize(TASKS - 4);
+        List<Task> all = taskService.getAllTasks(TaskField.parse(null), true);
+        assertThat(all).extracting(Task::getId).isSorted().hasSize(TASKS);
+    }
+
+    @Test
+    void pagesWithTheArchiveMergeBothTablesInSortOrder() {
+        archiveService.archiveCompletedTasks();
+
+        List<Long> seen = new ArrayList<>();
+        TaskPageQuery.TaskPageQueryBuilder query = TaskPageQuery.builder()
+                .direction(Sort.Direction.ASC)
+                .limit(3)
+                .includeArchived(true);
+        TaskPage page = taskService.getTaskPage(query.build());
+        page.getTasks().forEach(task -> seen.add(task.getId()));
+        while (page.hasMore()) {
+            page = taskService.getTaskPage(query.after(page.getNextCursor()).build());
+            page.getTasks().forEach(task -> seen.add(task.getId()));
+        }
+
+        assertThat(seen).hasSize(TASKS).doesNotHaveDuplicates();
+        assertThat(taskService.getTaskPage(TaskPageQuery.builder().limit(50).build()).getTasks())
+                .hasSize(TASKS - 4);
+    }
+
+    @Test
+    void writingAnArchivedTaskMovesItBack() {
+        archiveService.archiveCompletedTasks();
+        Long id = oldCompleted.get(1);
+
+        Task reopened = taskService.updateTaskStatus(id, TaskStatus.TODO);
+
+        assertThat(reopened.getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(archivedTaskRepository.existsById(id)).isFalse();
+        entityManager.clear();
+        assertThat(taskRepository.findById(id)).get()
+                .satisfies(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO));
+    }
+
+    @Test
+    void bulkUpdatesRestoreArchivedTasks() {
+        archiveService.archiveCompletedTasks();
+        Task change = new Task();
+        change.setId(oldCompleted.get(2));
+        change.setTitle("Renamed");
+
+        List<Task> updated = taskService.updateTasks(List.of(change));
+        taskRepository.flush();
+
+        assertThat(updated).extracting(Task::getTitle).containsExactly("Renamed");
+        assertThat(archivedTaskRepository.existsById(change.getId())).isFalse();
+        entityManager.clear();
+        assertThat(taskRepository.findById(change.getId())).get()
+                .satisfies(task -> assertThat(task.getTitle()).isEqualTo("Renamed"));
+    }
+
+    @Test
+    void deletingAnArchivedTaskRemovesItFromTheArchive() {
+        archiveService.archiveCompletedTasks();
+        Long id = oldCompleted.get(3);
+
+        taskService.deleteTask(id);
+
+        assertThat(archivedTaskRepository.existsById(id)).isFalse();
+        assertThatThrownBy(() -> taskService.getTaskById(id)).isInstanceOf(TaskNotFoundException.class);
+    }
+}
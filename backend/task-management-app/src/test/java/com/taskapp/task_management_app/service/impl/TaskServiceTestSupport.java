@@ -0,0 +1,71 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.cache.TaskCache;
+import com.taskapp.task_management_app.config.CacheConfig;
+import com.taskapp.task_management_app.repository.JpaArchivedTaskRepository;
+import com.taskapp.task_management_app.repository.JpaJobLockRepository;
+import com.taskapp.task_management_app.repository.JpaTaskRepository;
+import com.taskapp.task_management_app.repository.JpaTaskTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * The services against the embedded database: the JPA repositories, a {@link TaskServiceImpl} over them, and empty
+ * task tables at the start of each test. Subclasses add their own rows in a later {@code @BeforeEach}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class TaskServiceTestSupport {
+
+    @Autowired
+    protected JpaTaskRepository taskRepository;
+
+    @Autowired
+    protected JpaArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    protected JpaTaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    protected JpaJobLockRepository jobLockRepository;
+
+    @Autowired
+    protected ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    protected TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUpTaskService() {
+        taskService = new TaskServiceImpl(taskRepository, archivedTaskRepository, tombstoneRepository,
+                new TaskCache(new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE)), eventPublisher);
+        // Other test classes share the embedded database; start from empty tables (rolled back with the test).
+        jdbcTemplate.update("DELETE FROM task_tombstones");
+        jdbcTemplate.update("DELETE FROM tasks_archive");
+        jdbcTemplate.update("DELETE FROM tasks");
+    }
+
+    /** An enabled archive job over the same repositories, without pauses between chunks. */
+    protected TaskArchiveServiceImpl archiveService(Duration minAge, int chunkSize) {
+        return new TaskArchiveServiceImpl(taskRepository, archivedTaskRepository, tombstoneRepository,
+                jobLockRepository, eventPublisher, transactionManager, true, minAge, chunkSize, Duration.ZERO,
+                Duration.ofMinutes(5));
+    }
+}
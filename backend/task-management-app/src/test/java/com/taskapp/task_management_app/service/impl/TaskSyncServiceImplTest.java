@@ -0,0 +1,135 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskChanges;
+import com.taskapp.task_management_app.query.TaskSyncToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Delta sync against the embedded database: changed tasks by update time, tombstones left by deletes and archiving,
+ * and the resyncs for a missing or expired token and for too many changes.
+ */
+class TaskSyncServiceImplTest extends TaskServiceTestSupport {
+    private static final int MAX_CHANGES = 3;
+
+    private TaskSyncServiceImpl syncService;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        syncService = new TaskSyncServiceImpl(taskRepository, tombstoneRepository, MAX_CHANGES, Duration.ZERO,
+                Duration.ofDays(7));
+
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.COMPLETED);
+            ids.add(taskRepository.saveAndFlush(task).getId());
+        }
+        // Every task was last written an hour ago, long before the tokens used below.
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ?", LocalDateTime.now().minusHours(1));
+        entityManager.clear();
+    }
+
+    @Test
+    void withoutATokenEveryTaskIsAResyncInPages() {
+        TaskChanges first = syncService.getChanges(null);
+
+        assertThat(first.isResync()).isTrue();
+        assertThat(first.hasMore()).isTrue();
+        assertThat(first.getTasks()).extracting(Task::getId).containsExactlyElementsOf(ids.subList(0, MAX_CHANGES));
+        assertThat(first.getDeletedIds()).isEmpty();
+
+        // A task written between the pages is sent again by the delta after the last one.
+        taskService.updateTaskStatus(ids.get(0), TaskStatus.TODO);
+        TaskChanges last = syncService.getChanges(TaskSyncToken.decode(first.getNext().encode()));
+        assertThat(last.isResync()).isFalse();
+        assertThat(last.hasMore()).isFalse();
+        assertThat(last.getTasks()).extracting(Task::getId).containsExactlyElementsOf(ids.subList(MAX_CHANGES, 5));
+        assertThat(last.getNext().getSince()).isEqualTo(first.getNext().getSince());
+        assertThat(syncService.getChanges(last.getNext()).getTasks()).extracting(Task::getId)
+                .containsExactly(ids.get(0));
+    }
+
+    @Test
+    void returnsTasksWrittenAndIdsOfTasksDeletedSinceTheToken() {
+        TaskSyncToken token = new TaskSyncToken(LocalDateTime.now().minusMinutes(10));
+        taskService.updateTaskStatus(ids.get(0), TaskStatus.TODO);
+        taskService.deleteTask(ids.get(1));
+
+        TaskChanges changes = syncService.getChanges(token);
+
+        assertThat(changes.isResync()).isFalse();
+        assertThat(changes.getTasks()).extracting(Task::getId).containsExactly(ids.get(0));
+        assertThat(changes.getDeletedIds()).containsExactly(ids.get(1));
+        // Nothing happened after the next token.
+        TaskChanges next = syncService.getChanges(changes.getNext());
+        assertThat(next.getTasks()).isEmpty();
+        assertThat(next.getDeletedIds()).isEmpty();
+    }
+
+    @Test
+    void archivedTasksAreReportedAsRemovedUntilWrittenAgain() {
+        TaskSyncToken token = new TaskSyncToken(LocalDateTime.now().minusMinutes(10));
+        assertThat(archiveService(Duration.ofMinutes(30), 2).archiveCompletedTasks()).isEqualTo(5);
+
+        assertThat(syncService.getChanges(token).getDeletedIds()).containsExactlyInAnyOrderElementsOf(ids);
+
+        taskService.updateTaskStatus(ids.get(2), TaskStatus.TODO);
+        TaskChanges changes = syncService.getChanges(token);
+        assertThat(changes.getTasks()).extracting(Task::getId).containsExactly(ids.get(2));
+        assertThat(changes.getDeletedIds()).hasSize(4).doesNotContain(ids.get(2));
+    }
+
+    @Test
+    void anExpiredTokenOrTooManyChangesIsAResync() {
+        TaskChanges expired = syncService.getChanges(new TaskSyncToken(LocalDateTime.now().minusDays(8)));
+        assertThat(expired.isResync()).isTrue();
+        assertThat(expired.getTasks()).hasSize(MAX_CHANGES);
+
+        TaskSyncToken token = new TaskSyncToken(LocalDateTime.now().minusMinutes(10));
+        for (int i = 0; i <= MAX_CHANGES; i++) {
+            taskService.updateTaskStatus(ids.get(i), TaskStatus.TODO);
+        }
+        TaskChanges tooMany = syncService.getChanges(token);
+        assertThat(tooMany.isResync()).isTrue();
+        assertThat(tooMany.getTasks()).hasSize(MAX_CHANGES);
+    }
+
+    @Test
+    void purgesTombstonesOlderThanTheRetention() {
+        taskService.deleteTask(ids.get(0));
+        jdbcTemplate.update("UPDATE task_tombstones SET deleted_at = ?", LocalDateTime.now().minusDays(8));
+        taskService.deleteTask(ids.get(1));
+
+        assertThat(syncService.purgeTombstones()).isEqualTo(1);
+        assertThat(tombstoneRepository.findTaskIdsDeletedSince(LocalDateTime.now().minusDays(30)))
+                .containsExactly(ids.get(1));
+    }
+
+    @Test
+    void tokensRoundTripAndMalformedOnesAreRejected() {
+        TaskSyncToken token = new TaskSyncToken(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000));
+
+        assertThat(TaskSyncToken.decode(token.encode())).isEqualTo(token);
+        TaskSyncToken resyncing = new TaskSyncToken(token.getSince(), 42L);
+        assertThat(TaskSyncToken.decode(resyncing.encode())).isEqualTo(resyncing);
+        assertThatThrownBy(() -> TaskSyncToken.decode("not a token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskSyncToken.decode(Base64.getUrlEncoder().encodeToString(
+                "v2|2024-05-01T12:30".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
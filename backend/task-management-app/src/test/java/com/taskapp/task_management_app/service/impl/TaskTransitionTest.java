@@ -0,0 +1,176 @@
+package com.taskapp.task_management_app.service.impl;
+
+import com.taskapp.task_management_app.cache.TaskCache;
+import com.taskapp.task_management_app.config.CacheConfig;
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.event.TaskChangedEvent;
+import com.taskapp.task_management_app.event.TaskSnapshot;
+import com.taskapp.task_management_app.exception.TaskConflictException;
+import com.taskapp.task_management_app.exception.TaskNotFoundException;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskTransitionResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Status and priority changes, bulk and single, against the embedded database.
+ */
+class TaskTransitionTest extends TaskServiceTestSupport {
+
+    @Test
+    void transitionsListedIdsAndReportsMissingOnes() {
+        List<Long> ids = save(3, TaskStatus.TODO, Priority.LOW);
+        Long done = save(1, TaskStatus.COMPLETED, Priority.LOW).get(0);
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(done);
+        requested.add(-1L);
+
+        TaskTransitionResult result = taskService.transitionStatus(
+                TaskSelection.builder().ids(requested).build(), TaskStatus.COMPLETED);
+
+        assertThat(result.getMatched()).isEqualTo(4);
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(result.getMissingIds()).containsExactly(-1L);
+        entityManager.clear();
+        assertThat(taskRepository.findAllById(ids)).allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(task.getVersion()).isEqualTo(1);
+        });
+        // Already completed, so neither written nor versioned.
+        assertThat(taskRepository.findById(done).orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    void transitionsEveryTaskMatchingTheFilterAcrossChunks() {
+        int matching = TaskServiceImpl.TRANSITION_CHUNK_SIZE + 5;
+        save(matching, TaskStatus.IN_PROGRESS, Priority.HIGH);
+        List<Long> otherPriority = save(2, TaskStatus.IN_PROGRESS, Priority.LOW);
+        List<Long> otherStatus = save(2, TaskStatus.TODO, Priority.HIGH);
+
+        TaskTransitionResult result = taskService.transitionStatus(TaskSelection.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(Priority.HIGH)
+                .build(), TaskStatus.COMPLETED);
+
+        assertThat(result.getMatched()).isEqualTo(matching);
+        assertThat(result.getUpdated()).isEqualTo(matching);
+        assertThat(result.getMissingIds()).isEmpty();
+        entityManager.clear();
+        assertThat(taskRepository.findByStatus(TaskStatus.COMPLETED)).hasSize(matching);
+        assertThat(taskRepository.findAllById(otherPriority))
+                .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS));
+        assertThat(taskRepository.findAllById(otherStatus))
+                .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO));
+    }
+
+    @Test
+    void rejectsAFilterMatchingMoreTasksThanOneTransitionMayLock() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i <= TaskServiceImpl.MAX_TRANSITION_TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(Priority.LOW);
+            tasks.add(task);
+        }
+        taskRepository.insertAll(tasks);
+
+        assertThatThrownBy(() -> taskService.transitionStatus(
+                TaskSelection.builder().status(TaskStatus.TODO).build(), TaskStatus.COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("narrow it");
+    }
+
+    @Test
+    void transitioningAnArchivedTaskRestoresIt() {
+        Long id = save(1, TaskStatus.COMPLETED, Priority.LOW).get(0);
+        archivedTaskRepository.copyFromTasks(List.of(id), LocalDateTime.now());
+        taskRepository.deleteAllByIdIn(List.of(id));
+
+        TaskTransitionResult result = taskService.transitionPriority(
+                TaskSelection.builder().ids(List.of(id)).build(), Priority.HIGH);
+
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getMissingIds()).isEmpty();
+        assertThat(archivedTaskRepository.existsById(id)).isFalse();
+        entityManager.clear();
+        assertThat(taskRepository.findById(id).orElseThrow().getPriority()).isEqualTo(Priority.HIGH);
+    }
+
+    @Test
+    void aSingleStatusChangeIsOneConditionalUpdate() {
+        Long id = save(1, TaskStatus.TODO, Priority.LOW).get(0);
+
+        Task written = taskService.updateTaskStatus(id, TaskStatus.IN_PROGRESS, TaskStatus.TODO);
+
+        // The whole task as the UPDATE left it, from the row its lock read.
+        assertThat(written)
+                .extracting(Task::getStatus, Task::getPriority, Task::getVersion)
+                .containsExactly(TaskStatus.IN_PROGRESS, Priority.LOW, 1L);
+        assertThat(written.getTitle()).isNotNull();
+        assertThat(written.getUpdatedAt()).isNotNull();
+        assertThatThrownBy(() -> taskService.updateTaskStatus(id, TaskStatus.COMPLETED, TaskStatus.TODO))
+                .isInstanceOf(TaskConflictException.class);
+        assertThatThrownBy(() -> taskService.updateTaskStatus(-1L, TaskStatus.COMPLETED, null))
+                .isInstanceOf(TaskNotFoundException.class);
+        entityManager.clear();
+        assertThat(taskRepository.findById(id)).get()
+                .extracting(Task::getStatus, Task::getVersion)
+                .containsExactly(TaskStatus.IN_PROGRESS, 1L);
+    }
+
+    @Test
+    void singleChangesAnnounceTheStateTheyReplaced() {
+        List<Object> events = new ArrayList<>();
+        TaskServiceImpl recording = new TaskServiceImpl(taskRepository, archivedTaskRepository, tombstoneRepository,
+                new TaskCache(new ConcurrentMapCacheManager(CacheConfig.TASKS_CACHE)), events::add);
+        Task task = new Task();
+        task.setTitle("Due");
+        task.setStatus(TaskStatus.TODO);
+        task.setPriority(Priority.LOW);
+        task.setDueDate(LocalDate.now().plusDays(3));
+        Long id = taskRepository.saveAndFlush(task).getId();
+        entityManager.clear();
+
+        recording.markTaskAsCompleted(id);
+        recording.updateTaskPriority(id, Priority.HIGH);
+
+        // Without an expected status too, so the counters can move the task out of its old buckets.
+        assertThat(events).map(event -> ((TaskChangedEvent) event).getPrevious()).containsExactly(
+                new TaskSnapshot(TaskStatus.TODO, Priority.LOW, task.getDueDate()),
+                new TaskSnapshot(TaskStatus.COMPLETED, Priority.LOW, task.getDueDate()));
+    }
+
+    @Test
+    void requiresEitherIdsOrAFilter() {
+        assertThatThrownBy(() -> taskService.transitionStatus(TaskSelection.builder().build(), TaskStatus.TODO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.transitionStatus(
+                TaskSelection.builder().ids(List.of(1L)).status(TaskStatus.TODO).build(), TaskStatus.COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> save(int count, TaskStatus status, Priority priority) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(status);
+            task.setPriority(priority);
+            tasks.add(task);
+        }
+        List<Long> ids = taskRepository.saveAllAndFlush(tasks).stream().map(Task::getId).toList();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskapp.task_management_app.stats;
+
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.event.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCountersTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    void dueDateBucketsRollOverWithTheDate() {
+        TaskCounters counters = new TaskCounters();
+        counters.add(new TaskSnapshot(TaskStatus.TODO, Priority.HIGH, TODAY));
+        counters.add(new TaskSnapshot(TaskStatus.IN_PROGRESS, Priority.LOW, TODAY.plusDays(3)));
+        counters.add(new TaskSnapshot(TaskStatus.TODO, Priority.LOW, TODAY.plusDays(4)));
+
+        TaskStats today = counters.snapshot(TODAY, null);
+        assertThat(today.getOverdue()).isZero();
+        assertThat(today.getDueSoon()).isEqualTo(2);
+
+        TaskStats tomorrow = counters.snapshot(TODAY.plusDays(1), null);
+        assertThat(tomorrow.getOverdue()).isEqualTo(1);
+        assertThat(tomorrow.getDueSoon()).isEqualTo(3);
+    }
+
+    @Test
+    void completingATaskMovesItOutOfTheDueDateBuckets() {
+        TaskCounters counters = new TaskCounters();
+        TaskSnapshot open = new TaskSnapshot(TaskStatus.TODO, Priority.MEDIUM, TODAY.minusDays(1));
+        counters.add(open);
+
+        counters.remove(open);
+        counters.add(new TaskSnapshot(TaskStatus.COMPLETED, Priority.MEDIUM, TODAY.minusDays(1)));
+
+        TaskStats stats = counters.snapshot(TODAY, null);
+        assertThat(stats.getTotal()).isEqualTo(1);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.TODO, 0L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(stats.getOverdue()).isZero();
+        assertThat(stats.getDueSoon()).isZero();
+    }
+
+    @Test
+    void aStatusChangeMovesTheDueDateOnlyWhenItIsKnown() {
+        TaskCounters counters = new TaskCounters();
+        counters.add(new TaskSnapshot(TaskStatus.TODO, Priority.MEDIUM, TODAY.minusDays(1)));
+        counters.add(new TaskSnapshot(TaskStatus.TODO, Priority.MEDIUM, TODAY.minusDays(2)));
+
+        counters.changeStatus(new TaskSnapshot(TaskStatus.TODO, Priority.MEDIUM, TODAY.minusDays(1)),
+                TaskStatus.COMPLETED);
+        // Only the previous status is known, so the second task stays in the histogram until a resync.
+        counters.changeStatus(new TaskSnapshot(TaskStatus.TODO, null, null), TaskStatus.COMPLETED);
+        counters.changePriority(Priority.MEDIUM, Priority.HIGH);
+
+        TaskStats stats = counters.snapshot(TODAY, null);
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.TODO, 0L).containsEntry(TaskStatus.COMPLETED, 2L);
+        assertThat(stats.getByPriority()).containsEntry(Priority.MEDIUM, 1L).containsEntry(Priority.HIGH, 1L);
+        assertThat(stats.getOverdue()).isEqualTo(1);
+    }
+}
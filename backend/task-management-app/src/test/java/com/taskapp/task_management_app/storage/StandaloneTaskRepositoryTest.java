@@ -0,0 +1,138 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.Priority;
+import com.taskapp.task_management_app.enums.TaskSortField;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import com.taskapp.task_management_app.query.TaskCursor;
+import com.taskapp.task_management_app.query.TaskPageQuery;
+import com.taskapp.task_management_app.query.TaskSelection;
+import com.taskapp.task_management_app.query.TaskStatusPriorityCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The standalone repository against the finders and write semantics the services rely on from the JPA one.
+ */
+class StandaloneTaskRepositoryTest {
+    private static final Comparator<LocalDate> DUE_DATE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    @TempDir
+    Path directory;
+
+    private StandaloneTaskRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new StandaloneTaskRepository(TaskStore.open(directory, 64 * 1024, Long.MAX_VALUE, false));
+    }
+
+    @Test
+    void saveVersionsChangesAndRejectsStaleCopies() {
+        Task task = repository.save(task("Task", TaskStatus.TODO, Priority.LOW, null));
+        assertThat(task.getId()).isNotNull();
+        assertThat(task.getVersion()).isZero();
+        assertThat(task.getCreatedAt()).isNotNull();
+
+        Task stale = repository.findById(task.getId()).orElseThrow();
+        task.setTitle("Renamed");
+        repository.save(task);
+        assertThat(task.getVersion()).isEqualTo(1);
+        // Saving without changes writes nothing.
+        repository.save(task);
+        assertThat(task.getVersion()).isEqualTo(1);
+
+        stale.setTitle("Lost update");
+        assertThatThrownBy(() -> repository.save(stale)).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        Set<TaskStatus> open = Set.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+        assertThat(repository.transitionStatus(task.getId(), open, TaskStatus.COMPLETED, LocalDateTime.now())).isOne();
+        assertThat(repository.transitionStatus(task.getId(), open, TaskStatus.COMPLETED, LocalDateTime.now())).isZero();
+        assertThat(repository.findById(task.getId())).get().extracting(Task::getVersion).isEqualTo(2L);
+    }
+
+    @Test
+    void findersReadTheSecondaryIndexes() {
+        LocalDate today = LocalDate.now();
+        repository.save(task("Overdue report", TaskStatus.TODO, Priority.HIGH, today.minusDays(1)));
+        Task done = repository.save(task("Done", TaskStatus.COMPLETED, Priority.HIGH, today.minusDays(2)));
+        repository.save(task("Later REPORT", TaskStatus.IN_PROGRESS, Priority.LOW, today.plusDays(3)));
+        repository.save(task("Undated", TaskStatus.TODO, Priority.LOW, null));
+
+        assertThat(repository.countByStatusAndPriority())
+                .extracting(TaskStatusPriorityCount::getStatus, TaskStatusPriorityCount::getPriority,
+                        TaskStatusPriorityCount::getCount)
+                .hasSize(4);
+        assertThat(repository.countOpenByDueDate()).hasSize(2);
+        assertThat(repository.findArchivableIds(LocalDateTime.now().plusMinutes(1), 10))
+                .containsExactly(done.getId());
+        assertThat(repository.findChangedSince(LocalDateTime.now().minusMinutes(1), Limit.of(2))).hasSize(2);
+        assertThat(repository.findChangedSince(LocalDateTime.now().plusMinutes(1), Limit.of(10))).isEmpty();
+    }
+
+    @Test
+    void pagesWalkTheSortIndexFromTheCursor() {
+        for (int i = 0; i < 7; i++) {
+            LocalDate dueDate = i % 3 == 0 ? null : LocalDate.now().plusDays(i % 4);
+            repository.save(task("Task " + i, TaskStatus.TODO, Priority.MEDIUM, dueDate));
+        }
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            TaskPageQuery.TaskPageQueryBuilder query = TaskPageQuery.builder()
+                    .sort(TaskSortField.DUE_DATE)
+                    .direction(direction)
+                    .limit(3);
+            List<Task> seen = new ArrayList<>();
+            List<Task> page = repository.findPage(query.build(), 3);
+            while (!page.isEmpty()) {
+                seen.addAll(page);
+                Task last = page.get(page.size() - 1);
+                page = repository.findPage(query.after(TaskCursor.after(TaskSortField.DUE_DATE, direction, last))
+                        .build(), 3);
+            }
+            assertThat(seen).extracting(Task::getId).hasSize(7).doesNotHaveDuplicates();
+            assertThat(seen).extracting(Task::getDueDate)
+                    .isSortedAccordingTo(direction.isAscending() ? DUE_DATE_ORDER : DUE_DATE_ORDER.reversed());
+        }
+    }
+
+    @Test
+    void lockMatchingContinuesAfterTheGivenId() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(task("Task " + i, TaskStatus.TODO, Priority.HIGH, null));
+        }
+        TaskSelection selection = TaskSelection.builder().status(TaskStatus.TODO).priority(Priority.HIGH).build();
+
+        List<Task> first = repository.lockMatching(selection, null, 3);
+        List<Task> rest = repository.lockMatching(selection, first.get(2).getId(), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(rest).extracting(Task::getId).containsExactly(4L, 5L);
+        assertThat(repository.updateStatusIn(List.of(1L, 2L, 99L), TaskStatus.COMPLETED, LocalDateTime.now()))
+                .isEqualTo(2);
+        assertThat(repository.lockMatching(selection, null, 10)).hasSize(3);
+    }
+
+    private static Task task(String title, TaskStatus status, Priority priority, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Transactions on the standalone store: writes become durable together at commit, a rollback undoes them, and
+ * after-commit callbacks run as they do with JPA.
+ */
+class StandaloneTransactionManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private TaskStore store;
+    private StandaloneTaskRepository repository;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = open();
+        repository = new StandaloneTaskRepository(store);
+        transaction = new TransactionTemplate(new StandaloneTransactionManager(store));
+    }
+
+    @Test
+    void aFailedTransactionLeavesNothingBehind() throws IOException {
+        Task kept = repository.save(task("Kept"));
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            repository.save(task("Lost"));
+            repository.transitionStatus(
+                    kept.getId(), Set.of(TaskStatus.TODO), TaskStatus.COMPLETED, LocalDateTime.now());
+            repository.deleteAllByIdIn(List.of(kept.getId()));
+            throw new IllegalStateException("Half way");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(repository.findAll()).singleElement().satisfies(task -> {
+            assertThat(task.getTitle()).isEqualTo("Kept");
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.TODO);
+        });
+        store.close();
+        assertThat(new StandaloneTaskRepository(open()).findAll()).extracting(Task::getTitle).containsExactly("Kept");
+    }
+
+    @Test
+    void aCommittedTransactionIsDurableAndRunsAfterCommitCallbacks() throws IOException {
+        List<String> seenAfterCommit = new ArrayList<>();
+
+        transaction.executeWithoutResult(status -> {
+            Task first = repository.save(task("First"));
+            repository.save(task("Second"));
+            // The transaction reads its own writes.
+            assertThat(repository.findById(first.getId())).isPresent();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    repository.findAll().forEach(task -> seenAfterCommit.add(task.getTitle()));
+                }
+            });
+        });
+
+        assertThat(seenAfterCommit).containsExactly("First", "Second");
+        store.close();
+        assertThat(new StandaloneTaskRepository(open()).findAll()).hasSize(2);
+    }
+
+    @Test
+    void aParticipatingFailureRollsBackTheOuterTransaction() {
+        assertThatThrownBy(() -> transaction.executeWithoutResult(outer -> {
+            repository.save(task("Outer"));
+            try {
+                transaction.executeWithoutResult(inner -> {
+                    throw new IllegalStateException("Inner");
+                });
+            } catch (IllegalStateException e) {
+                // Swallowed, as a caller might; the shared transaction is still marked rollback-only.
+            }
+        })).hasMessageContaining("rollback-only");
+
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    private TaskStore open() throws IOException {
+        return TaskStore.open(directory, 64 * 1024, Long.MAX_VALUE, false);
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskapp.task_management_app.storage;
+
+import com.taskapp.task_management_app.entity.Task;
+import com.taskapp.task_management_app.entity.TaskTombstone;
+import com.taskapp.task_management_app.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Durability of the standalone store. A store that is opened again without being closed stands in for a crashed
+ * process: its log mapping is left exactly as the last write put it.
+ */
+class TaskStoreTest {
+    private static final int LOG_SIZE = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesAreRecoveredFromTheLogAfterACrash() throws IOException {
+        StandaloneTaskRepository crashed = new StandaloneTaskRepository(open(Long.MAX_VALUE));
+        Task first = crashed.save(task("First"));
+        crashed.save(task("Second"));
+        crashed.transitionStatus(first.getId(), Set.of(TaskStatus.TODO), TaskStatus.COMPLETED, LocalDateTime.now());
+        crashed.deleteAllByIdIn(List.of(2L));
+
+        StandaloneTaskRepository recovered = new StandaloneTaskRepository(open(Long.MAX_VALUE));
+
+        assertThat(recovered.findAll()).singleElement().satisfies(task -> {
+            assertThat(task.getTitle()).isEqualTo("First");
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(task.getVersion()).isEqualTo(1);
+        });
+        // Ids are not handed out twice, not even those of deleted tasks.
+        assertThat(recovered.save(task("Third")).getId()).isEqualTo(3);
+    }
+
+    @Test
+    void aTornRecordIsDroppedAndTheLogContinuesAfterTheLastIntactOne() throws IOException {
+        StandaloneTaskRepository crashed = new StandaloneTaskRepository(open(Long.MAX_VALUE));
+        crashed.save(task("Intact"));
+        crashed.save(task("Torn"));
+        corruptSecondRecord();
+
+        StandaloneTaskRepository recovered = new StandaloneTaskRepository(open(Long.MAX_VALUE));
+        assertThat(recovered.findAll()).extracting(Task::getTitle).containsExactly("Intact");
+        recovered.save(task("After"));
+
+        assertThat(new StandaloneTaskRepository(open(Long.MAX_VALUE)).findAll())
+                .extracting(Task::getTitle)
+                .containsExactly("Intact", "After");
+    }
+
+    @Test
+    void compactionSnapshotsTheTablesAndEmptiesTheLog() throws IOException {
+        TaskStore store = open(1024);
+        StandaloneTaskRepository tasks = new StandaloneTaskRepository(store);
+        StandaloneArchivedTaskRepository archive = new StandaloneArchivedTaskRepository(store);
+        for (int i = 0; i < 50; i++) {
+            tasks.save(task("Task " + i));
+        }
+        archive.copyFromTasks(List.of(1L, 2L), LocalDateTime.now());
+        tasks.deleteAllByIdIn(List.of(1L, 2L));
+        assertThat(directory.resolve("tasks.snapshot")).exists();
+        assertThat(store.logSize()).isLessThan(1024);
+
+        TaskStore reopened = open(1024);
+
+        assertThat(new StandaloneTaskRepository(reopened).findAll()).hasSize(48);
+        assertThat(new StandaloneArchivedTaskRepository(reopened).findAllById(List.of(1L, 2L)))
+                .allSatisfy(task -> assertThat(task.getArchivedAt()).isNotNull())
+                .hasSize(2);
+        reopened.compact();
+        assertThat(reopened.logSize()).isZero();
+        reopened.close();
+        assertThat(new StandaloneTaskRepository(open(1024)).save(task("Next")).getId()).isEqualTo(51);
+    }
+
+    @Test
+    void aTaskLeftInBothTablesByACrashMidMoveIsKeptInTheTaskTable() throws IOException {
+        TaskStore crashed = open(Long.MAX_VALUE);
+        Long id = new StandaloneTaskRepository(crashed).save(task("Moving")).getId();
+        new StandaloneArchivedTaskRepository(crashed).copyFromTasks(List.of(id), LocalDateTime.now());
+
+        TaskStore recovered = open(Long.MAX_VALUE);
+
+        assertThat(new StandaloneTaskRepository(recovered).findById(id)).isPresent();
+        assertThat(new StandaloneArchivedTaskRepository(recovered).findById(id)).isEmpty();
+    }
+
+    @Test
+    void tombstonesAreRecoveredFromTheLogAndTheSnapshot() throws IOException {
+        TaskStore crashed = open(Long.MAX_VALUE);
+        StandaloneTaskRepository tasks = new StandaloneTaskRepository(crashed);
+        Long archived = tasks.save(task("Archived")).getId();
+        Long deleted = tasks.save(task("Deleted")).getId();
+        LocalDateTime now = LocalDateTime.now();
+        StandaloneTaskTombstoneRepository tombstones = new StandaloneTaskTombstoneRepository(crashed);
+        tombstones.recordFromTasks(List.of(archived, -1L), now.minusDays(10));
+        tasks.deleteAllByIdIn(List.of(archived, deleted));
+        tombstones.save(TaskTombstone.of(deleted, now));
+
+        TaskStore recovered = open(Long.MAX_VALUE);
+        StandaloneTaskTombstoneRepository recoveredTombstones = new StandaloneTaskTombstoneRepository(recovered);
+        assertThat(recoveredTombstones.findTaskIdsDeletedSince(now.minusDays(30)))
+                .containsExactly(archived, deleted);
+        recovered.close();
+
+        StandaloneTaskTombstoneRepository reopened = new StandaloneTaskTombstoneRepository(open(Long.MAX_VALUE));
+        assertThat(reopened.findTaskIdsDeletedSince(now.minusDays(1))).containsExactly(deleted);
+        assertThat(reopened.deleteAllByDeletedAtBefore(now.minusDays(7))).isEqualTo(1);
+        assertThat(reopened.findTaskIdsDeletedSince(now.minusDays(30))).containsExactly(deleted);
+    }
+
+    private TaskStore open(long compactAfterBytes) throws IOException {
+        return TaskStore.open(directory, LOG_SIZE, compactAfterBytes, false);
+    }
+
+    /** Flips a payload byte of the second log record, as a write cut short by a crash would leave it. */
+    private void corruptSecondRecord() throws IOException {
+        try (FileChannel log = FileChannel.open(directory.resolve("tasks.log"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            log.read(length, 8);
+            long second = 8 + 8 + length.flip().getInt();
+            ByteBuffer payload = ByteBuffer.allocate(1);
+            log.read(payload, second + 8 + 20);
+            payload.put(0, (byte) ~payload.get(0));
+            log.write(payload.rewind(), second + 8 + 20);
+        }
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return task;
+    }
+}
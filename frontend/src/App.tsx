@@ -6,8 +6,11 @@ import TasksPage from "./pages/task/TasksPage";
 import CreateTaskPage from "./pages/task/CreateTaskPage";
 import { Toaster } from "react-hot-toast";
 import EditTaskPage from "./pages/task/EditTaskPage";
+import { useTaskEvents } from "./api/task/useTaskEvents";
 
 function App() {
+  useTaskEvents();
+
   return (
     <BrowserRouter>
       <Layout>
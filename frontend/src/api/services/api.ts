@@ -1,6 +1,6 @@
 import axios from "axios";
 
-const API_BASE_URL = "http://localhost:8080/api/v1";
+export const API_BASE_URL = "http://localhost:8080/api/v1";
 
 export const api = axios.create({
   baseURL: API_BASE_URL,
@@ -8,4 +8,6 @@ export const api = axios.create({
     "Content-Type": "application/json",
   },
   timeout: 10000,
+  // Sends the backend's read-your-writes cookie back when it runs with read replicas.
+  withCredentials: true,
 });
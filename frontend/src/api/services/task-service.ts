@@ -1,5 +1,6 @@
 import type {
   Priority,
+  TaskChangesResponseDTO,
   TaskResponseDTO,
   TaskStatus,
   TaskUpSertDTO,
@@ -13,6 +14,14 @@ export const taskService = {
     return response.data;
   },
 
+  // Get tasks changed and ids of tasks removed since a token (all tasks without one)
+  getTaskChanges: async (since?: string): Promise<TaskChangesResponseDTO> => {
+    const response = await api.get("/tasks/changes", {
+      params: since ? { since } : undefined,
+    });
+    return response.data;
+  },
+
   // Get task by ID
   getTaskById: async (id: number): Promise<TaskResponseDTO> => {
     const response = await api.get(`/tasks/${id}`);
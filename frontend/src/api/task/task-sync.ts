@@ -0,0 +1,36 @@
+import type {
+  TaskChangesResponseDTO,
+  TaskResponseDTO,
+} from "../../constants/types";
+import { taskService } from "../services/task-service";
+import { queryClient } from "../query-client";
+
+// Token of the last delta sync; the next one fetches only what changed after it.
+let syncToken: string | undefined;
+
+// Loads the task list through the delta sync endpoint: the first call (or a resync) returns every task, a page
+// at a time, later ones only the tasks changed and the ids removed since, merged into the cached list.
+export const syncTasks = async (): Promise<TaskResponseDTO[]> => {
+  let tasks = queryClient.getQueryData<TaskResponseDTO[]>(["tasks"]);
+  let changes: TaskChangesResponseDTO;
+  do {
+    changes = await taskService.getTaskChanges(tasks ? syncToken : undefined);
+    syncToken = changes.nextToken;
+    tasks = changes.resync || !tasks ? changes.items : merge(tasks, changes);
+  } while (changes.hasMore);
+  return tasks;
+};
+
+const merge = (
+  cached: TaskResponseDTO[],
+  changes: TaskChangesResponseDTO
+): TaskResponseDTO[] => {
+  const removed = new Set(changes.deletedIds);
+  const changed = new Map(changes.items.map((task) => [task.id, task]));
+  const merged = cached
+    .filter((task) => !removed.has(task.id))
+    .map((task) => changed.get(task.id) ?? task);
+  const known = new Set(merged.map((task) => task.id));
+  // Tasks seen again because the token window overlaps are already in the list.
+  return [...merged, ...changes.items.filter((task) => !known.has(task.id))];
+};
@@ -0,0 +1,76 @@
+import { useEffect } from "react";
+import type { TaskResponseDTO } from "../../constants/types";
+import { API_BASE_URL } from "../services/api";
+import { queryClient } from "../query-client";
+
+interface TaskChange {
+  type: "CREATED" | "UPDATED" | "DELETED" | "ARCHIVED";
+  taskId: number;
+  task: Partial<TaskResponseDTO> & { id: number } | null;
+}
+
+// Applies server-sent task changes to the cached task list instead of re-fetching it.
+// The browser reconnects on its own and sends Last-Event-ID, so missed changes are replayed.
+export const useTaskEvents = () => {
+  useEffect(() => {
+    const source = new EventSource(`${API_BASE_URL}/tasks/events`, {
+      withCredentials: true,
+    });
+
+    // Bulk status and priority changes carry only the fields they wrote and those derived from them, so changes are
+    // merged into the cached task.
+    // Such a change to a task that is not in the list (e.g. one just restored from the archive) refetches it.
+    const upsert = (event: MessageEvent<string>) => {
+      const change: TaskChange = JSON.parse(event.data);
+      const task = change.task!;
+      const complete = "title" in task;
+      const listed = queryClient.getQueryData<TaskResponseDTO[]>(["tasks"]);
+      if (listed && !complete && !listed.some((t) => t.id === task.id)) {
+        queryClient.invalidateQueries({ queryKey: ["tasks"] });
+      } else {
+        queryClient.setQueryData<TaskResponseDTO[]>(["tasks"], (tasks) => {
+          if (!tasks) return tasks;
+          const index = tasks.findIndex((t) => t.id === task.id);
+          if (index < 0) return [...tasks, task as TaskResponseDTO];
+          const next = [...tasks];
+          next[index] = { ...next[index], ...task };
+          return next;
+        });
+      }
+      queryClient.setQueryData<TaskResponseDTO>(["task", task.id], (current) =>
+        current ? { ...current, ...task } : complete ? (task as TaskResponseDTO) : current
+      );
+    };
+
+    const remove = (event: MessageEvent<string>) => {
+      const change: TaskChange = JSON.parse(event.data);
+      queryClient.setQueryData<TaskResponseDTO[]>(["tasks"], (tasks) =>
+        tasks?.filter((t) => t.id !== change.taskId)
+      );
+      queryClient.removeQueries({ queryKey: ["task", change.taskId] });
+    };
+
+    // Archived tasks leave the list but can still be opened by id; archiving does not change them, so a cached
+    // copy stays valid.
+    const archive = (event: MessageEvent<string>) => {
+      const change: TaskChange = JSON.parse(event.data);
+      queryClient.setQueryData<TaskResponseDTO[]>(["tasks"], (tasks) =>
+        tasks?.filter((t) => t.id !== change.taskId)
+      );
+    };
+
+    // Sent when changes could not be replayed; the refetch catches up through the delta sync.
+    const resync = () => {
+      queryClient.invalidateQueries({ queryKey: ["tasks"] });
+      queryClient.invalidateQueries({ queryKey: ["task"] });
+    };
+
+    source.addEventListener("created", upsert);
+    source.addEventListener("updated", upsert);
+    source.addEventListener("deleted", remove);
+    source.addEventListener("archived", archive);
+    source.addEventListener("resync", resync);
+
+    return () => source.close();
+  }, []);
+};
@@ -1,11 +1,14 @@
 import { useQuery } from "@tanstack/react-query";
 import { taskService } from "../services/task-service";
+import { syncTasks } from "./task-sync";
 
 export const useTasks = () => {
   return useQuery({
     queryKey: ["tasks"],
-    queryFn: taskService.getAllTasks,
-    staleTime: 1000 * 60 * 5, // 5 minutes
+    // Refetches (e.g. after a mutation invalidates the list) only fetch the changes since the last one
+    queryFn: syncTasks,
+    // Kept fresh by the server-sent change feed (useTaskEvents)
+    staleTime: Infinity,
   });
 };
 
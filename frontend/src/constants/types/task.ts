@@ -12,6 +12,15 @@ export interface TaskResponseDTO {
   statusLabel: string;
   priorityLabel: string;
 }
+export interface TaskChangesResponseDTO {
+  // When true, items is the first page of every task and replaces the client's copy
+  resync: boolean;
+  items: TaskResponseDTO[];
+  deletedIds: number[];
+  nextToken: string;
+  // True while a resync has pages left to fetch with nextToken
+  hasMore: boolean;
+}
 export interface TaskUpSertDTO {
   title: string;
   description?: string;